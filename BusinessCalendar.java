@@ -0,0 +1,102 @@
+package javaapplication3;
+
+/**
+ * Counts the business days of a {@link HolidayProfile} over the years of the
+ * precomputed Easter table. The business days before any day are the days
+ * from Monday to Friday before it, found by arithmetic, less the holidays
+ * among them, found by the rank of the day in the year's weekday holidays,
+ * plus the business days of the years before, kept in a cumulative array.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+final class BusinessCalendar {
+
+    private static final int YEARS = EasterTable.LAST_YEAR - EasterTable.FIRST_YEAR + 1;
+
+    private final int[] firstDays = new int[YEARS + 1];
+    private final YearDaySet[] holidays = new YearDaySet[YEARS];
+    private final int[] starts = new int[YEARS + 1];
+
+    BusinessCalendar(HolidayProfile profile) {
+        for (int i = 0; i <= YEARS; i++) {
+            firstDays[i] = OrthodoxComputus.epochDay(EasterTable.FIRST_YEAR + i, 1, 1);
+        }
+        for (int i = 0; i < YEARS; i++) {
+            holidays[i] = profile.forYear(EasterTable.FIRST_YEAR + i).weekdays();
+            starts[i + 1] = starts[i] + weekdaysBefore(firstDays[i + 1]) - weekdaysBefore(firstDays[i])
+                    - holidays[i].size();
+        }
+    }
+
+    /**
+     * Returns the number of business days from 1 January 1583 to a day,
+     * exclusive.
+     */
+    int countBefore(int epochDay) {
+        int i = yearIndex(epochDay);
+        return starts[i] + countInYear(i, epochDay - firstDays[i]);
+    }
+
+    /**
+     * Returns the business day preceded by a given number of business days
+     * since 1 January 1583.
+     */
+    int select(int count) {
+        if (count < 0 || count >= starts[YEARS]) {
+            throw new IllegalArgumentException("Business days are only counted from 1583 to 9999");
+        }
+        int low = 0;
+        int high = YEARS;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= count) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        int i = low;
+        int rest = count - starts[i];
+        // The first day of the year with more than rest business days up to
+        // and including it.
+        int first = 0;
+        int last = firstDays[i + 1] - firstDays[i] - 1;
+        while (first < last) {
+            int mid = (first + last) >>> 1;
+            if (countInYear(i, mid + 1) > rest) {
+                last = mid;
+            } else {
+                first = mid + 1;
+            }
+        }
+        return firstDays[i] + first;
+    }
+
+    boolean isBusinessDay(int epochDay) {
+        int i = yearIndex(epochDay);
+        return countInYear(i, epochDay - firstDays[i] + 1) > countInYear(i, epochDay - firstDays[i]);
+    }
+
+    private int yearIndex(int epochDay) {
+        int i = (OrthodoxComputus.civilDate(epochDay) >>> 9) - EasterTable.FIRST_YEAR;
+        if (i < 0 || i >= YEARS) {
+            throw new IllegalArgumentException("Business days are only counted from 1583 to 9999");
+        }
+        return i;
+    }
+
+    /**
+     * Returns the number of business days among the first days of a year.
+     */
+    private int countInYear(int i, int days) {
+        return weekdaysBefore(firstDays[i] + days) - weekdaysBefore(firstDays[i]) - holidays[i].rank(days);
+    }
+
+    /**
+     * Returns the number of days from Monday to Friday before a day, counted
+     * from 1970-01-05, a Monday; negative for earlier days.
+     */
+    private static int weekdaysBefore(int epochDay) {
+        return 5 * Math.floorDiv(epochDay - 4, 7) + Math.min(OrthodoxComputus.dayOfWeek(epochDay) - 1, 5);
+    }
+}
@@ -0,0 +1,62 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+
+/**
+ * Arithmetic on business days, the days from Monday to Friday that are not
+ * holidays of a {@link HolidayProfile}. Both operations take a binary search
+ * over the years at most, never a walk over the days, and work for dates
+ * from 1583 to 9999.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class BusinessDays {
+
+    private BusinessDays() {
+    }
+
+    /**
+     * Tells whether a date is a business day.
+     *
+     * @param date The date to check.
+     * @param profile The holidays to skip.
+     * @return true if the date is from Monday to Friday and not a holiday.
+     */
+    public static boolean isBusinessDay(LocalDate date, HolidayProfile profile) {
+        return profile.businessCalendar().isBusinessDay(Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * Moves a date by a number of business days.
+     *
+     * @param date The date to start from. It need not be a business day.
+     * @param n The number of business days to move, backwards if negative.
+     * @param profile The holidays to skip.
+     * @return the {@code n}th business day after the date, or before it if
+     * {@code n} is negative, or the date itself if {@code n} is 0.
+     */
+    public static LocalDate addBusinessDays(LocalDate date, int n, HolidayProfile profile) {
+        if (n == 0) {
+            return date;
+        }
+        BusinessCalendar calendar = profile.businessCalendar();
+        int day = Math.toIntExact(date.toEpochDay());
+        int count = n > 0 ? calendar.countBefore(day + 1) + n - 1 : calendar.countBefore(day) + n;
+        return LocalDate.ofEpochDay(calendar.select(count));
+    }
+
+    /**
+     * Counts the business days between two dates.
+     *
+     * @param from The first date, inclusive.
+     * @param to The last date, exclusive.
+     * @param profile The holidays to skip.
+     * @return the number of business days from the first date up to the
+     * last, negative if the last date is earlier.
+     */
+    public static int businessDaysBetween(LocalDate from, LocalDate to, HolidayProfile profile) {
+        BusinessCalendar calendar = profile.businessCalendar();
+        return calendar.countBefore(Math.toIntExact(to.toEpochDay()))
+                - calendar.countBefore(Math.toIntExact(from.toEpochDay()));
+    }
+}
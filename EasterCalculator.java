@@ -1,94 +1,133 @@
 package javaapplication3;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.function.IntFunction;
 
 /**
- * This class calculates all the mobile Orthodox holy days.
+ * This class calculates all the mobile Orthodox holy days. It only keeps the
+ * days as numbers, so every getter returns a new Calendar the caller may
+ * modify; {@link OrthodoxYear} offers the same days as immutable dates.
  *
  * @author Drakoulelis <drakouleli at ceid.upatras.gr>
  */
 public final class EasterCalculator {
 
-    private Calendar easter;
-    private Calendar forefathers;
-    private Calendar george;
-    private Calendar mark;
-    private Calendar cloe;
+    /**
+     * The last year the primitive computus is defined for, so that every epoch
+     * day it produces fits in an {@code int}.
+     */
+    public static final int MAX_YEAR = OrthodoxComputus.MAX_YEAR;
+
+    private static final YearTable<EasterCalculator> YEARS = new YearTable<EasterCalculator>(256,
+            new IntFunction<EasterCalculator>() {
+                @Override
+                public EasterCalculator apply(int year) {
+                    return new EasterCalculator(year);
+                }
+            });
+
+    private final int year;
+    private final int easterDay;
+    // The fixed-anchor days, packed as four shorts holding their distance from
+    // Easter and calculated on first access. Mark the Evangelist is always
+    // after Easter, so zero means not calculated yet. Racing threads calculate
+    // equal values, so a volatile write is enough to publish them.
+    private volatile long anchors;
 
     /**
      *
-     * @param year The year to search dates for. It must be over 1582.
+     * @param year The year to search dates for. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @throws IllegalArgumentException if the year is out of range.
      */
     public EasterCalculator(int year) {
-        if (year <= 1582) {
-            throw new IllegalArgumentException("Algorithm invalid before April 1583");
-        }
-        easter = calculateEaster(year);
-        forefathers = calculateSundayOfTheForefathers(year);
-        george = calculateSaintGeorge(year);
-        mark = calculateMarkTheEvangelist(year);
-        cloe = calculateCloe(year);
+        OrthodoxComputus.checkYear(year);
+        this.year = year;
+        easterDay = OrthodoxComputus.calculateEaster(year);
     }
 
-    private GregorianCalendar calculateEaster(int year) {
-        int e = 10;
-
-        if (year > 1600) {
-            int y2 = (int) Math.floor(year / 100);
-            e = 10 + y2 - 16 - (int) Math.floor((y2 - 16) / 4);
-        }
-
-        int G = year % 19;
-        int I = (19 * G + 15) % 30;
-        int J = (year + (int) Math.floor(year / 4) + I) % 7;
-        int L = I - J;
-        int p = L + e;
-        int d = 1 + (p + 27 + (int) Math.floor((p + 6) / 40)) % 31;
-        int m = 3 + (int) Math.floor((p + 26) / 30) - 1;
-        return new GregorianCalendar(year, m, d);
+    /**
+     * Returns a calculator shared by every caller asking for the same year.
+     * The years 1583 to 9999 are kept once calculated; the most recently used
+     * others are kept in a bounded cache.
+     *
+     * @param year The year to search dates for. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @return the calculator of the year.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public static EasterCalculator of(int year) {
+        return YEARS.get(year);
     }
 
-    private GregorianCalendar calculateSundayOfTheForefathers(int year) {
-        GregorianCalendar f = new GregorianCalendar(year, Calendar.DECEMBER, 11);
-
-        if (f.get(Calendar.DAY_OF_WEEK) != Calendar.SUNDAY) {
-            f.add(Calendar.DAY_OF_WEEK, Calendar.SATURDAY - f.get(Calendar.DAY_OF_WEEK) + Calendar.SUNDAY);
-        }
-
-        return f;
+    /**
+     * Returns the number of {@link #of(int)} calls after 9999 answered from
+     * the cache.
+     *
+     * @return the number of cache hits so far.
+     */
+    public static long cacheHitCount() {
+        return YEARS.cacheHitCount();
     }
 
-    private GregorianCalendar calculateSaintGeorge(int year) {
-        GregorianCalendar g = new GregorianCalendar(year, Calendar.APRIL, 23);
-
-        if (g.before(easter) || g.equals(easter)) {
-            g = (GregorianCalendar) easter.clone();
-            g.add(Calendar.DAY_OF_MONTH, 1);
-        }
-
-        return g;
+    /**
+     * Returns the number of {@link #of(int)} calls after 9999 that
+     * constructed a new calculator.
+     *
+     * @return the number of cache misses so far.
+     */
+    public static long cacheMissCount() {
+        return YEARS.cacheMissCount();
     }
 
-    private GregorianCalendar calculateMarkTheEvangelist(int year) {
-        GregorianCalendar m = new GregorianCalendar(year, Calendar.APRIL, 25);
-
-        if (m.before(george) || m.equals(george)) {
-            m = (GregorianCalendar) george.clone();
-            m.add(Calendar.DAY_OF_MONTH, 1);
-        }
-
-        return m;
+    /**
+     * Calculates Easter day without constructing any calendar object.
+     *
+     * @param year The year to search Easter for. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @return the number of days from 1970-01-01 to Easter day.
+     * @throws IllegalArgumentException if the year is out of range.
+     * @see OrthodoxComputus#easterEpochDay(int)
+     */
+    public static int easterEpochDay(int year) {
+        return OrthodoxComputus.easterEpochDay(year);
     }
 
-    private GregorianCalendar calculateCloe(int year) {
-        GregorianCalendar c = new GregorianCalendar(year, Calendar.FEBRUARY, 13);
+    /**
+     * Calculates the day of a feast without constructing any calendar object.
+     *
+     * @param feast The feast to search for.
+     * @param year The year to search the feast for. It must be over 1582 and
+     * not over {@link #MAX_YEAR}.
+     * @return the number of days from 1970-01-01 to the feast.
+     * @throws IllegalArgumentException if the year is out of range.
+     * @see OrthodoxComputus#epochDayOf(MovableFeast, int)
+     */
+    public static int epochDayOf(MovableFeast feast, int year) {
+        return OrthodoxComputus.epochDayOf(feast, year);
+    }
 
-        if (c.get(Calendar.DAY_OF_WEEK) != Calendar.SUNDAY) {
-            c.add(Calendar.DAY_OF_WEEK, Calendar.SATURDAY - c.get(Calendar.DAY_OF_WEEK) + Calendar.SUNDAY);
-        }
+    /**
+     * Calculates the days of every feast of a year without constructing any
+     * calendar object.
+     *
+     * @param year The year to search dates for. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @param out The array to fill, indexed by {@link MovableFeast#ordinal()}.
+     * @return the given array, holding the number of days from 1970-01-01 to
+     * each feast.
+     * @throws IllegalArgumentException if the year is out of range.
+     * @see OrthodoxComputus#allFeasts(int, int[])
+     */
+    public static int[] allFeasts(int year, int[] out) {
+        return OrthodoxComputus.allFeasts(year, out);
+    }
 
-        return c;
+    private static GregorianCalendar toCalendar(int epochDay) {
+        int date = OrthodoxComputus.civilDate(epochDay);
+        return new GregorianCalendar(date >>> 9, (date >>> 5 & 0xF) - 1, date & 0x1F);
     }
 
     /**
@@ -97,7 +136,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getEaster() {
-        return easter;
+        return toCalendar(easterDay);
     }
 
     /**
@@ -106,7 +145,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getSundayOfTheForefathers() {
-        return forefathers;
+        return toCalendar(getEpochDay(MovableFeast.SUNDAY_OF_THE_FOREFATHERS));
     }
 
     /**
@@ -115,7 +154,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getSaintGeorgeDay() {
-        return george;
+        return toCalendar(getEpochDay(MovableFeast.SAINT_GEORGE));
     }
 
     /**
@@ -124,7 +163,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getMarkTheEvangelistDay() {
-        return mark;
+        return toCalendar(getEpochDay(MovableFeast.MARK_THE_EVANGELIST));
     }
 
     /**
@@ -133,7 +172,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getSaintCloeDay() {
-        return cloe;
+        return toCalendar(getEpochDay(MovableFeast.SAINT_CLOE));
     }
 
     /**
@@ -143,7 +182,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getPublicanDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 70);
+        return relative(MovableFeast.PUBLICAN);
     }
 
     /**
@@ -152,7 +191,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getProdigal() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 63);
+        return relative(MovableFeast.PRODIGAL);
     }
 
     /**
@@ -161,7 +200,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getAllSoulsDayA() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 57);
+        return relative(MovableFeast.ALL_SOULS_A);
     }
 
     /**
@@ -170,7 +209,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getAllSoulsDayB() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 48);
+        return relative(MovableFeast.ALL_SOULS_B);
     }
 
     /**
@@ -179,7 +218,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getCarnivalDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 56);
+        return relative(MovableFeast.CARNIVAL);
     }
 
     /**
@@ -188,7 +227,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getShroveMonday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 48);
+        return relative(MovableFeast.SHROVE_MONDAY);
     }
 
     /**
@@ -197,7 +236,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getShroveThursday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 59);
+        return relative(MovableFeast.SHROVE_THURSDAY);
     }
 
     /**
@@ -206,7 +245,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getCheeseSunday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 49);
+        return relative(MovableFeast.CHEESE_SUNDAY);
     }
 
     /**
@@ -215,7 +254,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getGregoryPalamasDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 35);
+        return relative(MovableFeast.GREGORY_PALAMAS);
     }
 
     /**
@@ -224,7 +263,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getSaintTheodoreDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 43);
+        return relative(MovableFeast.SAINT_THEODORE);
     }
 
     /**
@@ -233,7 +272,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getSundayOfOrthodoxy() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 42);
+        return relative(MovableFeast.SUNDAY_OF_ORTHODOXY);
     }
 
     /**
@@ -242,7 +281,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getLazarusDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 8);
+        return relative(MovableFeast.LAZARUS);
     }
 
     /**
@@ -251,7 +290,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getPalmSunday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 7);
+        return relative(MovableFeast.PALM_SUNDAY);
     }
 
     /**
@@ -260,7 +299,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getHolyMonday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 6);
+        return relative(MovableFeast.HOLY_MONDAY);
     }
 
     /**
@@ -269,7 +308,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getHolyTuesday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 5);
+        return relative(MovableFeast.HOLY_TUESDAY);
     }
 
     /**
@@ -278,7 +317,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getHolyWednesday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 4);
+        return relative(MovableFeast.HOLY_WEDNESDAY);
     }
 
     /**
@@ -287,7 +326,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getHolyThursday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 3);
+        return relative(MovableFeast.HOLY_THURSDAY);
     }
 
     /**
@@ -296,7 +335,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getHolyFriday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 2);
+        return relative(MovableFeast.HOLY_FRIDAY);
     }
 
     /**
@@ -305,7 +344,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getHolySaturday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) - 1);
+        return relative(MovableFeast.HOLY_SATURDAY);
     }
 
     /**
@@ -314,7 +353,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getEasterMonday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 1);
+        return relative(MovableFeast.EASTER_MONDAY);
     }
 
     /**
@@ -323,7 +362,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getEasterTuesday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 2);
+        return relative(MovableFeast.EASTER_TUESDAY);
     }
 
     /**
@@ -332,7 +371,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getEasterWednesday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 3);
+        return relative(MovableFeast.EASTER_WEDNESDAY);
     }
 
     /**
@@ -341,7 +380,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getEasterThursday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 4);
+        return relative(MovableFeast.EASTER_THURSDAY);
     }
 
     /**
@@ -350,7 +389,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getEasterFriday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 5);
+        return relative(MovableFeast.EASTER_FRIDAY);
     }
 
     /**
@@ -359,7 +398,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getEasterSaturday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 6);
+        return relative(MovableFeast.EASTER_SATURDAY);
     }
 
     /**
@@ -368,7 +407,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getLifeGivingSpringDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 5);
+        return relative(MovableFeast.LIFE_GIVING_SPRING);
     }
 
     /**
@@ -377,7 +416,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getThomasSunday() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 7);
+        return relative(MovableFeast.THOMAS_SUNDAY);
     }
 
     /**
@@ -386,7 +425,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getMyrrhbearersDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 14);
+        return relative(MovableFeast.MYRRHBEARERS);
     }
 
     /**
@@ -395,7 +434,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getParalyticDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 21);
+        return relative(MovableFeast.PARALYTIC);
     }
 
     /**
@@ -404,7 +443,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getAscensionDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 39);
+        return relative(MovableFeast.ASCENSION);
     }
 
     /**
@@ -413,7 +452,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getPentecostDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 49);
+        return relative(MovableFeast.PENTECOST);
     }
 
     /**
@@ -422,7 +461,7 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getAllSaintsDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 56);
+        return relative(MovableFeast.ALL_SAINTS);
     }
 
     /**
@@ -431,6 +470,63 @@ public final class EasterCalculator {
      * @return a Calendar object representing the day.
      */
     public Calendar getHolySpiritDay() {
-        return new GregorianCalendar(easter.get(Calendar.YEAR), easter.get(Calendar.MONTH), easter.get(Calendar.DAY_OF_MONTH) + 50);
+        return relative(MovableFeast.HOLY_SPIRIT);
+    }
+
+    /**
+     * Returns the year the holy days were calculated for.
+     *
+     * @return the year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the day of a feast without constructing any calendar object.
+     *
+     * @param feast The feast to search for.
+     * @return the number of days from 1970-01-01 to the feast.
+     */
+    public int getEpochDay(MovableFeast feast) {
+        switch (feast) {
+            case SUNDAY_OF_THE_FOREFATHERS:
+                return easterDay + (short) anchors();
+            case SAINT_GEORGE:
+                return easterDay + (short) (anchors() >>> 16);
+            case MARK_THE_EVANGELIST:
+                return easterDay + (short) (anchors() >>> 32);
+            case SAINT_CLOE:
+                return easterDay + (short) (anchors() >>> 48);
+            default:
+                return easterDay + feast.getEasterOffset();
+        }
+    }
+
+    /**
+     * Returns the day of a feast.
+     *
+     * @param feast The feast to search for.
+     * @return a date representing the day.
+     */
+    public LocalDate getDate(MovableFeast feast) {
+        return LocalDate.ofEpochDay(getEpochDay(feast));
+    }
+
+    private long anchors() {
+        long a = anchors;
+        if (a == 0) {
+            int georgeDay = OrthodoxComputus.calculateSaintGeorge(year, easterDay);
+            a = (OrthodoxComputus.calculateSundayOfTheForefathers(year) - easterDay & 0xFFFFL)
+                    | (georgeDay - easterDay & 0xFFFFL) << 16
+                    | (OrthodoxComputus.calculateMarkTheEvangelist(year, georgeDay) - easterDay & 0xFFFFL) << 32
+                    | (OrthodoxComputus.calculateCloe(year) - easterDay & 0xFFFFL) << 48;
+            anchors = a;
+        }
+        return a;
+    }
+
+    private Calendar relative(MovableFeast feast) {
+        return toCalendar(easterDay + feast.getEasterOffset());
     }
 }
@@ -0,0 +1,17 @@
+package javaapplication3;
+
+/**
+ * Calculates Easter day of every year in a range. The ranges given are
+ * already checked, and every result must match the scalar arithmetic in
+ * {@link OrthodoxComputus} bit for bit.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+interface EasterKernel {
+
+    /**
+     * Writes the number of days from 1970-01-01 to Easter day of
+     * {@code fromYear + i} at {@code out[i]}.
+     */
+    void computeEasterRange(int fromYear, int toYear, int[] out);
+}
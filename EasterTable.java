@@ -0,0 +1,53 @@
+package javaapplication3;
+
+/**
+ * A bit-packed table of the Julian Easter date for every year from 1583 to
+ * 9999. Only 35 dates are possible, so each year takes 6 bits and ten years
+ * share a {@code long}. The table is built on first use.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+final class EasterTable {
+
+    static final int FIRST_YEAR = 1583;
+    static final int LAST_YEAR = 9999;
+
+    private static final int BITS = 6;
+    private static final int PER_WORD = 10;
+
+    private EasterTable() {
+    }
+
+    /**
+     * Tells whether the given year is covered by the table.
+     */
+    static boolean contains(int year) {
+        return year >= FIRST_YEAR && year <= LAST_YEAR;
+    }
+
+    /**
+     * Returns the Julian Easter date of a year covered by the table, as the
+     * number of days after the 22nd of March.
+     */
+    static int lookup(int year) {
+        int i = year - FIRST_YEAR;
+        return (int) (Holder.TABLE[i / PER_WORD] >>> (i % PER_WORD * BITS)) & 0x3F;
+    }
+
+    private static final class Holder {
+
+        static final long[] TABLE = build();
+
+        private static long[] build() {
+            int size = LAST_YEAR - FIRST_YEAR + 1;
+            long[] table = new long[(size + PER_WORD - 1) / PER_WORD];
+
+            for (int i = 0; i < size; i++) {
+                long days = OrthodoxComputus.calculateJulianEaster(FIRST_YEAR + i);
+                table[i / PER_WORD] |= days << (i % PER_WORD * BITS);
+            }
+
+            return table;
+        }
+    }
+}
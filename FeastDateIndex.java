@@ -0,0 +1,84 @@
+package javaapplication3;
+
+import java.util.Arrays;
+
+/**
+ * The years of a {@link FeastMatrix} grouped by the month and day each feast
+ * falls on. For every feast the years are stored in one array, sorted by
+ * date and then by year, with the first position of every date kept aside,
+ * so the years of a date are a single contiguous slice.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+final class FeastDateIndex {
+
+    /**
+     * Dates are keyed by {@code month << 5 | day}.
+     */
+    private static final int KEYS = 13 << 5;
+
+    private final int fromYear;
+    private final int toYear;
+    private final int[][] starts;
+    private final int[][] years;
+
+    FeastDateIndex(FeastMatrix matrix) {
+        fromYear = matrix.getFromYear();
+        toYear = matrix.getToYear();
+        int count = toYear - fromYear + 1;
+        starts = new int[OrthodoxComputus.FEAST_COUNT][];
+        years = new int[OrthodoxComputus.FEAST_COUNT][];
+        int[] keys = new int[count];
+        for (MovableFeast feast : MovableFeast.values()) {
+            int[] column = matrix.columnArray(feast);
+            int[] start = new int[KEYS + 1];
+            for (int i = 0; i < count; i++) {
+                int date = OrthodoxComputus.civilDate(column[i]);
+                keys[i] = date & 0x1ff;
+                start[keys[i] + 1]++;
+            }
+            for (int k = 0; k < KEYS; k++) {
+                start[k + 1] += start[k];
+            }
+            // Counting sort; walking the years in order keeps every slice sorted.
+            int[] next = Arrays.copyOf(start, KEYS);
+            int[] sorted = new int[count];
+            for (int i = 0; i < count; i++) {
+                sorted[next[keys[i]]++] = fromYear + i;
+            }
+            starts[feast.ordinal()] = start;
+            years[feast.ordinal()] = sorted;
+        }
+    }
+
+    /**
+     * Returns the years in which a feast falls on a date, in order.
+     */
+    int[] yearsOn(MovableFeast feast, int month, int day) {
+        int key = month << 5 | day;
+        int[] start = starts[feast.ordinal()];
+        return Arrays.copyOfRange(years[feast.ordinal()], start[key], start[key + 1]);
+    }
+
+    /**
+     * Returns the years in which a feast does not fall on a date, in order.
+     */
+    int[] yearsNotOn(MovableFeast feast, int month, int day) {
+        int key = month << 5 | day;
+        int[] start = starts[feast.ordinal()];
+        int[] sorted = years[feast.ordinal()];
+        int[] result = new int[toYear - fromYear + 1 - (start[key + 1] - start[key])];
+        int n = 0;
+        int year = fromYear;
+        for (int i = start[key]; i < start[key + 1]; i++) {
+            while (year < sorted[i]) {
+                result[n++] = year++;
+            }
+            year++;
+        }
+        while (year <= toYear) {
+            result[n++] = year++;
+        }
+        return result;
+    }
+}
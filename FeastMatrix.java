@@ -0,0 +1,150 @@
+package javaapplication3;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The feasts of a range of years laid out by column: one array of days per
+ * feast, indexed by year. Scanning a column, such as every Pentecost of a
+ * millennium, reads consecutive memory and touches no objects.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class FeastMatrix {
+
+    /**
+     * Years filled by a single fork/join task before it stops splitting.
+     */
+    private static final int LEAF_YEARS = 256;
+
+    private final int fromYear;
+    private final int toYear;
+    private final int[][] columns;
+
+    private FeastMatrix(int fromYear, int toYear) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.columns = new int[OrthodoxComputus.FEAST_COUNT][toYear - fromYear + 1];
+    }
+
+    /**
+     * Calculates every feast of every year in a range, in parallel on the
+     * common fork/join pool.
+     *
+     * @param fromYear The first year of the range. It must be over 1582 and not
+     * over {@link EasterCalculator#MAX_YEAR}.
+     * @param toYear The last year of the range, inclusive, not over
+     * {@link EasterCalculator#MAX_YEAR}.
+     * @return the feasts of the range.
+     * @throws IllegalArgumentException if a year is out of range or the range
+     * ends before it starts.
+     */
+    public static FeastMatrix build(int fromYear, int toYear) {
+        OrthodoxComputus.checkRange(fromYear, toYear);
+        FeastMatrix matrix = new FeastMatrix(fromYear, toYear);
+        ForkJoinPool.commonPool().invoke(new Fill(matrix.columns, fromYear, fromYear, toYear));
+        return matrix;
+    }
+
+    /**
+     * Fills the columns of a range of years, splitting it in halves until it
+     * is short enough to walk with a {@link PaschalCursor}.
+     */
+    private static final class Fill extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] columns;
+        private final int fromYear;
+        private final int from;
+        private final int to;
+
+        /**
+         * Fills the years {@code from} to {@code to} of columns starting at
+         * {@code fromYear}.
+         */
+        Fill(int[][] columns, int fromYear, int from, int to) {
+            this.columns = columns;
+            this.fromYear = fromYear;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < LEAF_YEARS) {
+                fill();
+                return;
+            }
+            int mid = from + (to - from) / 2;
+            invokeAll(new Fill(columns, fromYear, from, mid), new Fill(columns, fromYear, mid + 1, to));
+        }
+
+        private void fill() {
+            MovableFeast[] feasts = MovableFeast.values();
+            PaschalCursor cursor = new PaschalCursor(from);
+            for (int year = from; ; year++) {
+                int i = year - fromYear;
+                for (MovableFeast feast : feasts) {
+                    columns[feast.ordinal()][i] = cursor.getEpochDay(feast);
+                }
+                if (year == to) {
+                    break;
+                }
+                cursor.advance();
+            }
+        }
+    }
+
+    /**
+     * Returns the first year of the range.
+     *
+     * @return the year.
+     */
+    public int getFromYear() {
+        return fromYear;
+    }
+
+    /**
+     * Returns the last year of the range.
+     *
+     * @return the year.
+     */
+    public int getToYear() {
+        return toYear;
+    }
+
+    /**
+     * Returns the day of a feast.
+     *
+     * @param feast The feast to search for.
+     * @param year The year to search the feast for, within the range.
+     * @return the number of days from 1970-01-01 to the feast.
+     */
+    public int get(MovableFeast feast, int year) {
+        if (year < fromYear || year > toYear) {
+            throw new IllegalArgumentException("Year " + year + " outside " + fromYear + "-" + toYear);
+        }
+        return columns[feast.ordinal()][year - fromYear];
+    }
+
+    /**
+     * Returns the days of a feast over the whole range, without copying them.
+     *
+     * @param feast The feast to search for.
+     * @return a read-only buffer holding at position {@code i} the number of
+     * days from 1970-01-01 to the feast of {@code getFromYear() + i}.
+     */
+    public IntBuffer column(MovableFeast feast) {
+        return IntBuffer.wrap(columns[feast.ordinal()]).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the backing array of a column, which callers in this package
+     * must not modify.
+     */
+    int[] columnArray(MovableFeast feast) {
+        return columns[feast.ordinal()];
+    }
+}
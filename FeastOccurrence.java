@@ -0,0 +1,76 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+
+/**
+ * A feast of a given year and the day it falls on.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class FeastOccurrence {
+
+    private final int year;
+    private final MovableFeast feast;
+    private final int epochDay;
+
+    FeastOccurrence(int year, MovableFeast feast, int epochDay) {
+        this.year = year;
+        this.feast = feast;
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Returns the year the feast was calculated for.
+     *
+     * @return the year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the feast.
+     *
+     * @return the feast.
+     */
+    public MovableFeast getFeast() {
+        return feast;
+    }
+
+    /**
+     * Returns the day of the feast without constructing any date object.
+     *
+     * @return the number of days from 1970-01-01 to the feast.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the day of the feast.
+     *
+     * @return a date representing the day.
+     */
+    public LocalDate getDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FeastOccurrence)) {
+            return false;
+        }
+        FeastOccurrence other = (FeastOccurrence) obj;
+        return year == other.year && feast == other.feast && epochDay == other.epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return (year * 31 + feast.ordinal()) * 31 + epochDay;
+    }
+
+    @Override
+    public String toString() {
+        return feast + " " + year + " " + getDate();
+    }
+}
@@ -0,0 +1,424 @@
+package javaapplication3;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * The public holidays of a country: dates fixed in the Gregorian or the
+ * Julian calendar together with some of the feasts calculated by
+ * {@link EasterCalculator}, or days counted from the Western Easter. The
+ * holidays of each year are compiled once into a {@link YearDaySet}; the
+ * built-in profiles share equal sets with each other.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class HolidayProfile {
+
+    /**
+     * The public holidays of Greece.
+     */
+    public static final HolidayProfile GREECE = builder("GR")
+            .feasts(MovableFeast.SHROVE_MONDAY, MovableFeast.HOLY_FRIDAY,
+                    MovableFeast.EASTER_MONDAY, MovableFeast.HOLY_SPIRIT)
+            .fixed(1, 1).fixed(1, 6).fixed(3, 25).fixed(5, 1)
+            .fixed(8, 15).fixed(10, 28).fixed(12, 25).fixed(12, 26)
+            .buildShared();
+    /**
+     * The public holidays of Cyprus.
+     */
+    public static final HolidayProfile CYPRUS = builder("CY")
+            .feasts(MovableFeast.SHROVE_MONDAY, MovableFeast.HOLY_FRIDAY, MovableFeast.EASTER,
+                    MovableFeast.EASTER_MONDAY, MovableFeast.EASTER_TUESDAY, MovableFeast.HOLY_SPIRIT)
+            .fixed(1, 1).fixed(1, 6).fixed(3, 25).fixed(4, 1).fixed(5, 1)
+            .fixed(8, 15).fixed(10, 1).fixed(10, 28).fixed(12, 25).fixed(12, 26)
+            .buildShared();
+    /**
+     * The public holidays of Romania.
+     */
+    public static final HolidayProfile ROMANIA = builder("RO")
+            .feasts(MovableFeast.HOLY_FRIDAY, MovableFeast.EASTER, MovableFeast.EASTER_MONDAY,
+                    MovableFeast.PENTECOST, MovableFeast.HOLY_SPIRIT)
+            .fixed(1, 1).fixed(1, 2).fixed(1, 6).fixed(1, 7).fixed(1, 24).fixed(5, 1)
+            .fixed(6, 1).fixed(8, 15).fixed(11, 30).fixed(12, 1).fixed(12, 25).fixed(12, 26)
+            .buildShared();
+    /**
+     * The public holidays of Serbia, whose church keeps the Julian calendar.
+     */
+    public static final HolidayProfile SERBIA = builder("RS")
+            .feasts(MovableFeast.HOLY_FRIDAY, MovableFeast.HOLY_SATURDAY, MovableFeast.EASTER,
+                    MovableFeast.EASTER_MONDAY)
+            .fixed(1, 1).fixed(1, 2).fixed(2, 15).fixed(2, 16).fixed(5, 1).fixed(5, 2).fixed(11, 11)
+            .julian(12, 25)
+            .buildShared();
+    /**
+     * The public holidays of Bulgaria.
+     */
+    public static final HolidayProfile BULGARIA = builder("BG")
+            .feasts(MovableFeast.HOLY_FRIDAY, MovableFeast.HOLY_SATURDAY, MovableFeast.EASTER,
+                    MovableFeast.EASTER_MONDAY)
+            .fixed(1, 1).fixed(3, 3).fixed(5, 1).fixed(5, 6).fixed(5, 24).fixed(9, 6)
+            .fixed(9, 22).fixed(12, 24).fixed(12, 25).fixed(12, 26)
+            .buildShared();
+    /**
+     * The public holidays of North Macedonia, whose church keeps the Julian
+     * calendar, without Eid al-Fitr, which follows the lunar calendar.
+     */
+    public static final HolidayProfile NORTH_MACEDONIA = builder("MK")
+            .feasts(MovableFeast.HOLY_FRIDAY, MovableFeast.EASTER_MONDAY)
+            .fixed(1, 1).fixed(5, 1).fixed(8, 2).fixed(9, 8).fixed(10, 11).fixed(10, 23).fixed(12, 8)
+            .julian(12, 25).julian(5, 11).julian(8, 15)
+            .buildShared();
+    /**
+     * The public holidays of Georgia, whose church keeps the Julian calendar.
+     */
+    public static final HolidayProfile GEORGIA = builder("GE")
+            .feasts(MovableFeast.HOLY_FRIDAY, MovableFeast.HOLY_SATURDAY, MovableFeast.EASTER,
+                    MovableFeast.EASTER_MONDAY)
+            .fixed(1, 1).fixed(1, 2).fixed(3, 3).fixed(3, 8).fixed(4, 9).fixed(5, 9)
+            .fixed(5, 12).fixed(5, 26)
+            .julian(12, 25).julian(1, 6).julian(8, 15).julian(10, 1).julian(11, 10)
+            .buildShared();
+    /**
+     * The public holidays of Finland, whose Orthodox church keeps the Western
+     * Easter.
+     */
+    public static final HolidayProfile FINLAND = builder("FI")
+            .westernEaster(-2, 0, 1, 39, 49)
+            .fixed(1, 1).fixed(1, 6).fixed(5, 1).fixed(12, 6).fixed(12, 25).fixed(12, 26)
+            .onOrAfter(DayOfWeek.SATURDAY, 6, 20).onOrAfter(DayOfWeek.SATURDAY, 10, 31)
+            .buildShared();
+
+    private final String name;
+    private final Rule[] rules;
+    // Set for profiles combining others instead of listing days.
+    private final HolidayProfile[] operands;
+    private final boolean intersection;
+    // Only the built-in profiles intern their sets, so that profiles made at
+    // run time leave nothing behind in the shared pool.
+    private final boolean shared;
+
+    private final YearTable<YearDaySet> years = new YearTable<YearDaySet>(64,
+            new IntFunction<YearDaySet>() {
+                @Override
+                public YearDaySet apply(int year) {
+                    return compile(year);
+                }
+            });
+    private volatile BusinessCalendar businessCalendar;
+    private volatile HolidayStatistics statistics;
+
+    private HolidayProfile(String name, Rule[] rules, HolidayProfile[] operands, boolean intersection,
+            boolean shared) {
+        this.name = name;
+        this.rules = rules;
+        this.operands = operands;
+        this.intersection = intersection;
+        this.shared = shared;
+    }
+
+    /**
+     * Creates a profile. 29 February counts only in leap years.
+     *
+     * @param name The name of the profile.
+     * @param feasts The feasts that are holidays.
+     * @param fixedDates The dates that are holidays every year.
+     * @return the profile.
+     */
+    public static HolidayProfile of(String name, Set<MovableFeast> feasts, MonthDay... fixedDates) {
+        Builder builder = builder(name).feasts(feasts.toArray(new MovableFeast[feasts.size()]));
+        for (MonthDay date : fixedDates) {
+            builder.fixed(date.getMonthValue(), date.getDayOfMonth());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Starts a profile.
+     *
+     * @param name The name of the profile.
+     * @return a builder collecting the holidays of the profile.
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Creates a profile of the days that are holidays in any of some profiles.
+     *
+     * @param name The name of the profile.
+     * @param profiles The profiles to combine.
+     * @return the profile.
+     */
+    public static HolidayProfile union(String name, HolidayProfile... profiles) {
+        return combine(name, profiles, false);
+    }
+
+    /**
+     * Creates a profile of the days that are holidays in all of some profiles.
+     *
+     * @param name The name of the profile.
+     * @param profiles The profiles to combine.
+     * @return the profile.
+     */
+    public static HolidayProfile intersection(String name, HolidayProfile... profiles) {
+        return combine(name, profiles, true);
+    }
+
+    private static HolidayProfile combine(String name, HolidayProfile[] profiles, boolean intersection) {
+        if (profiles.length == 0) {
+            throw new IllegalArgumentException("No profiles to combine");
+        }
+        return new HolidayProfile(name, null, profiles.clone(), intersection, false);
+    }
+
+    /**
+     * Returns the name of the profile.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the holidays of a year. Equal sets of the years 1583 to 9999 are
+     * shared between the built-in profiles.
+     *
+     * @param year The year to calculate the holidays for. It must be over
+     * 1582 and not over {@link EasterCalculator#MAX_YEAR}.
+     * @return the holidays.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public YearDaySet forYear(int year) {
+        return years.get(year);
+    }
+
+    /**
+     * Tells whether a date is a holiday.
+     *
+     * @param date The date to check. Its year must be over 1582 and not over
+     * {@link EasterCalculator#MAX_YEAR}.
+     * @return true if the date is a holiday.
+     * @throws IllegalArgumentException if the year of the date is out of range.
+     */
+    public boolean isHoliday(LocalDate date) {
+        return forYear(date.getYear()).contains(date.getDayOfYear());
+    }
+
+    BusinessCalendar businessCalendar() {
+        BusinessCalendar calendar = businessCalendar;
+        if (calendar == null) {
+            calendar = new BusinessCalendar(this);
+            businessCalendar = calendar;
+        }
+        return calendar;
+    }
+
+    HolidayStatistics statistics() {
+        HolidayStatistics s = statistics;
+        if (s == null) {
+            s = new HolidayStatistics(this);
+            statistics = s;
+        }
+        return s;
+    }
+
+    private YearDaySet compile(int year) {
+        YearDaySet set;
+        if (operands != null) {
+            set = operands[0].forYear(year);
+            for (int i = 1; i < operands.length; i++) {
+                set = intersection ? set.intersection(operands[i].forYear(year)) : set.union(operands[i].forYear(year));
+            }
+        } else {
+            int[] days = new int[rules.length * Rule.MAX_DAYS];
+            int n = 0;
+            for (Rule rule : rules) {
+                n = rule.addDays(year, days, n);
+            }
+            set = YearDaySet.of(year, days, 0, n);
+        }
+        return shared ? YearDaySet.intern(set) : set;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A kind of holiday, giving its days around a year. Days outside the year
+     * are dropped when the year is compiled.
+     */
+    private abstract static class Rule {
+
+        static final int MAX_DAYS = 2;
+
+        /**
+         * Stores the days of the holiday from a position of an array.
+         *
+         * @return the position after the last day stored.
+         */
+        abstract int addDays(int year, int[] days, int n);
+    }
+
+    /**
+     * Collects the holidays of a profile.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final List<Rule> rules = new ArrayList<Rule>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds feasts calculated by {@link EasterCalculator}.
+         *
+         * @param feasts The feasts that are holidays.
+         * @return this builder.
+         */
+        public Builder feasts(MovableFeast... feasts) {
+            for (final MovableFeast feast : feasts) {
+                rules.add(new Rule() {
+                    @Override
+                    int addDays(int year, int[] days, int n) {
+                        // Far ahead the feast drifts into later years; it is
+                        // at least 350 days from one year to the next, so at
+                        // most two fall in a year.
+                        int start = OrthodoxComputus.epochDay(year, 1, 1);
+                        int end = OrthodoxComputus.epochDay(year + 1, 1, 1);
+                        for (int y = OrthodoxComputus.firstYearFallingIn(year); y <= year; y++) {
+                            int day = OrthodoxComputus.epochDayOf(feast, y);
+                            if (day >= start && day < end) {
+                                days[n++] = day;
+                            }
+                        }
+                        return n;
+                    }
+                });
+            }
+            return this;
+        }
+
+        /**
+         * Adds a date of the Gregorian calendar. 29 February counts only in
+         * leap years.
+         *
+         * @param month The month, from 1 to 12.
+         * @param dayOfMonth The day of the month.
+         * @return this builder.
+         */
+        public Builder fixed(int month, int dayOfMonth) {
+            final MonthDay date = MonthDay.of(month, dayOfMonth);
+            rules.add(new Rule() {
+                @Override
+                int addDays(int year, int[] days, int n) {
+                    if (!date.isValidYear(year)) {
+                        return n;
+                    }
+                    days[n] = OrthodoxComputus.epochDay(year, date.getMonthValue(), date.getDayOfMonth());
+                    return n + 1;
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Adds a date of the Julian calendar, such as 25 December, which falls
+         * on 7 January of the next Gregorian year from 1901 to 2099.
+         *
+         * @param month The month, from 1 to 12.
+         * @param dayOfMonth The day of the month.
+         * @return this builder.
+         */
+        public Builder julian(int month, int dayOfMonth) {
+            final MonthDay date = MonthDay.of(month, dayOfMonth);
+            rules.add(new Rule() {
+                @Override
+                int addDays(int year, int[] days, int n) {
+                    // A Gregorian year overlaps two Julian years, which fall
+                    // a day further behind in three centuries out of four;
+                    // far ahead that is more than a year.
+                    int start = OrthodoxComputus.epochDay(year, 1, 1);
+                    int end = OrthodoxComputus.epochDay(year + 1, 1, 1);
+                    for (int y = year - 1 - (year / 100 - year / 400) / 365; y <= year; y++) {
+                        if (date.getMonthValue() != 2 || date.getDayOfMonth() != 29 || y % 4 == 0) {
+                            int day = OrthodoxComputus.julianEpochDay(y, date.getMonthValue(), date.getDayOfMonth());
+                            if (day >= start && day < end) {
+                                days[n++] = day;
+                            }
+                        }
+                    }
+                    return n;
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Adds days counted from the Western Easter.
+         *
+         * @param offsets The days from Easter, negative before it.
+         * @return this builder.
+         */
+        public Builder westernEaster(int... offsets) {
+            for (final int offset : offsets) {
+                rules.add(new Rule() {
+                    @Override
+                    int addDays(int year, int[] days, int n) {
+                        days[n] = OrthodoxComputus.calculateWesternEaster(year) + offset;
+                        return n + 1;
+                    }
+                });
+            }
+            return this;
+        }
+
+        /**
+         * Adds the first day of a week falling on or after a date of the
+         * Gregorian calendar, such as the Saturday between 20 and 26 June.
+         *
+         * @param dayOfWeek The day of the week.
+         * @param month The month, from 1 to 12.
+         * @param dayOfMonth The day of the month.
+         * @return this builder.
+         */
+        public Builder onOrAfter(DayOfWeek dayOfWeek, int month, int dayOfMonth) {
+            final MonthDay date = MonthDay.of(month, dayOfMonth);
+            final int weekday = dayOfWeek.getValue();
+            rules.add(new Rule() {
+                @Override
+                int addDays(int year, int[] days, int n) {
+                    if (!date.isValidYear(year)) {
+                        return n;
+                    }
+                    int day = OrthodoxComputus.epochDay(year, date.getMonthValue(), date.getDayOfMonth());
+                    days[n] = day + Math.floorMod(weekday - OrthodoxComputus.dayOfWeek(day), 7);
+                    return n + 1;
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Creates the profile.
+         *
+         * @return the profile.
+         */
+        public HolidayProfile build() {
+            return new HolidayProfile(name, rules.toArray(new Rule[rules.size()]), null, false, false);
+        }
+
+        private HolidayProfile buildShared() {
+            return new HolidayProfile(name, rules.toArray(new Rule[rules.size()]), null, false, true);
+        }
+    }
+}
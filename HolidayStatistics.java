@@ -0,0 +1,125 @@
+package javaapplication3;
+
+/**
+ * Counts of the holidays of a {@link HolidayProfile} over ranges of years from
+ * 1583 to 9999. The counts of every year are summed once into running totals
+ * by month and by day of the week, so any range is answered by subtracting
+ * the totals before its first year from those up to its last.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class HolidayStatistics {
+
+    private static final int YEARS = EasterTable.LAST_YEAR - EasterTable.FIRST_YEAR + 1;
+
+    // Running totals, indexed by the years before each year times the
+    // number of columns, plus the column.
+    private final int[] weekdaysByMonth = new int[(YEARS + 1) * 12];
+    private final int[] byDayOfWeek = new int[(YEARS + 1) * 7];
+
+    HolidayStatistics(HolidayProfile profile) {
+        for (int i = 0; i < YEARS; i++) {
+            int year = EasterTable.FIRST_YEAR + i;
+            System.arraycopy(weekdaysByMonth, i * 12, weekdaysByMonth, (i + 1) * 12, 12);
+            System.arraycopy(byDayOfWeek, i * 7, byDayOfWeek, (i + 1) * 7, 7);
+            YearDaySet set = profile.forYear(year);
+            int firstDay = OrthodoxComputus.epochDay(year, 1, 1);
+            for (int day = set.next(0); day >= 0; day = set.next(day + 1)) {
+                int epochDay = firstDay + day;
+                int dayOfWeek = OrthodoxComputus.dayOfWeek(epochDay) - 1;
+                byDayOfWeek[(i + 1) * 7 + dayOfWeek]++;
+                if (dayOfWeek < 5) {
+                    weekdaysByMonth[(i + 1) * 12 + (OrthodoxComputus.civilDate(epochDay) >>> 5 & 15) - 1]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the statistics of a profile, calculated on first use.
+     *
+     * @param profile The profile to count the holidays of.
+     * @return the statistics.
+     */
+    public static HolidayStatistics of(HolidayProfile profile) {
+        return profile.statistics();
+    }
+
+    /**
+     * Counts the holidays falling from Monday to Friday in each month of a
+     * range of years.
+     *
+     * @param fromYear The first year of the range. It must be over 1582.
+     * @param toYear The last year of the range, inclusive, up to 9999.
+     * @return an array of the counts, from January at index 0 to December.
+     * @throws IllegalArgumentException if the range is not within 1583 to 9999
+     * or ends before it starts.
+     */
+    public int[] weekdayHolidaysByMonth(int fromYear, int toYear) {
+        return sum(weekdaysByMonth, 12, fromYear, toYear);
+    }
+
+    /**
+     * Counts the holidays falling from Monday to Friday in each quarter of a
+     * range of years.
+     *
+     * @param fromYear The first year of the range. It must be over 1582.
+     * @param toYear The last year of the range, inclusive, up to 9999.
+     * @return an array of the counts, from the first quarter at index 0.
+     * @throws IllegalArgumentException if the range is not within 1583 to 9999
+     * or ends before it starts.
+     */
+    public int[] weekdayHolidaysByQuarter(int fromYear, int toYear) {
+        int[] months = weekdayHolidaysByMonth(fromYear, toYear);
+        int[] quarters = new int[4];
+        for (int month = 0; month < 12; month++) {
+            quarters[month / 3] += months[month];
+        }
+        return quarters;
+    }
+
+    /**
+     * Counts the holidays falling on each day of the week in a range of
+     * years.
+     *
+     * @param fromYear The first year of the range. It must be over 1582.
+     * @param toYear The last year of the range, inclusive, up to 9999.
+     * @return an array of the counts, from Monday at index 0 to Sunday.
+     * @throws IllegalArgumentException if the range is not within 1583 to 9999
+     * or ends before it starts.
+     */
+    public int[] holidaysByDayOfWeek(int fromYear, int toYear) {
+        return sum(byDayOfWeek, 7, fromYear, toYear);
+    }
+
+    /**
+     * Counts the holidays falling from Monday to Friday in a range of years.
+     *
+     * @param fromYear The first year of the range. It must be over 1582.
+     * @param toYear The last year of the range, inclusive, up to 9999.
+     * @return the number of holidays.
+     * @throws IllegalArgumentException if the range is not within 1583 to 9999
+     * or ends before it starts.
+     */
+    public int weekdayHolidays(int fromYear, int toYear) {
+        int count = 0;
+        for (int c : weekdayHolidaysByMonth(fromYear, toYear)) {
+            count += c;
+        }
+        return count;
+    }
+
+    private static int[] sum(int[] totals, int columns, int fromYear, int toYear) {
+        OrthodoxComputus.checkRange(fromYear, toYear);
+        if (!EasterTable.contains(toYear)) {
+            throw new IllegalArgumentException("Holidays are only counted from 1583 to 9999");
+        }
+        int from = (fromYear - EasterTable.FIRST_YEAR) * columns;
+        int to = (toYear - EasterTable.FIRST_YEAR + 1) * columns;
+        int[] result = new int[columns];
+        for (int c = 0; c < columns; c++) {
+            result[c] = totals[to + c] - totals[from + c];
+        }
+        return result;
+    }
+}
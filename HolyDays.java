@@ -0,0 +1,128 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+import java.util.function.IntFunction;
+
+/**
+ * Tells whether a day is one of the holy days calculated by
+ * {@link EasterCalculator}, and which. The holy days of each year are
+ * compiled once into a {@link YearDaySet}, so every check is a lookup of the
+ * year followed by one shift-and-mask. Next to the set each year keeps, for
+ * every holy day in order, a mask of the feasts falling on it, found by the
+ * rank of the day in the set. Far enough ahead the feasts calculated for a
+ * year fall in later years, so each year collects the feasts of every year
+ * that fall in it.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class HolyDays {
+
+    private static final YearTable<Year> YEARS = new YearTable<Year>(64,
+            new IntFunction<Year>() {
+                @Override
+                public Year apply(int year) {
+                    return new Year(year);
+                }
+            });
+
+    private static final class Year {
+
+        final YearDaySet days;
+        // The feasts of each day of the set, in the order of the days.
+        final long[] feasts;
+
+        Year(int year) {
+            MovableFeast[] values = MovableFeast.values();
+            int first = OrthodoxComputus.firstYearFallingIn(year);
+            int[] epochDays = OrthodoxComputus.computeFeastRange(first, year,
+                    new int[(year - first + 1) * values.length]);
+            days = YearDaySet.of(year, epochDays, 0, epochDays.length);
+            feasts = new long[days.size()];
+            for (int i = 0; i < epochDays.length; i++) {
+                int day = days.indexOf(epochDays[i]);
+                if (day >= 0) {
+                    feasts[days.rank(day)] |= values[i % values.length].mask();
+                }
+            }
+        }
+
+        long feastsOn(int day) {
+            return day < 0 ? 0 : feasts[days.rank(day)];
+        }
+    }
+
+    private HolyDays() {
+    }
+
+    /**
+     * Returns the holy days of a year: the days on which a feast falls,
+     * whichever year the feast is calculated for.
+     *
+     * @param year The year to search dates for. It must be over 1582 and not
+     * over {@link EasterCalculator#MAX_YEAR}.
+     * @return the holy days of the year.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public static YearDaySet forYear(int year) {
+        return year(year).days;
+    }
+
+    private static Year year(int year) {
+        return YEARS.get(year);
+    }
+
+    /**
+     * Tells whether a day is a holy day.
+     *
+     * @param epochDay The number of days from 1970-01-01 to the day. Its year
+     * must be over 1582 and not over {@link EasterCalculator#MAX_YEAR}.
+     * @return true if a feast falls on the day.
+     * @throws IllegalArgumentException if the year of the day is out of range.
+     */
+    public static boolean isHolyDay(int epochDay) {
+        return year(OrthodoxComputus.civilDate(epochDay) >>> 9).days.containsEpochDay(epochDay);
+    }
+
+    /**
+     * Tells whether a date is a holy day.
+     *
+     * @param date The date to look up. Its year must be over 1582 and not
+     * over {@link EasterCalculator#MAX_YEAR}.
+     * @return true if a feast falls on the date.
+     * @throws IllegalArgumentException if the year of the date is out of range.
+     */
+    public static boolean isHolyDay(LocalDate date) {
+        return year(date.getYear()).days.contains(date.getDayOfYear());
+    }
+
+    /**
+     * Returns the feasts falling on a day, whichever year they are calculated
+     * for. More than one feast can fall on the same day, such as the Life
+     * Giving Spring and Easter Friday.
+     *
+     * @param epochDay The number of days from 1970-01-01 to the day. Its year
+     * must be over 1582 and not over {@link EasterCalculator#MAX_YEAR}.
+     * @return a mask of {@link MovableFeast#mask()} bits, 0 if none.
+     * @throws IllegalArgumentException if the year of the day is out of range.
+     * @see MovableFeast#setOf(long)
+     */
+    public static long feastsOn(int epochDay) {
+        Year year = year(OrthodoxComputus.civilDate(epochDay) >>> 9);
+        return year.feastsOn(year.days.indexOf(epochDay));
+    }
+
+    /**
+     * Returns the feasts falling on a date.
+     *
+     * @param date The date to look up. Its year must be over 1582 and not
+     * over {@link EasterCalculator#MAX_YEAR}.
+     * @return a mask of {@link MovableFeast#mask()} bits, 0 if none.
+     * @throws IllegalArgumentException if the year of the date is out of range.
+     * @see MovableFeast#setOf(long)
+     */
+    public static long feastsOn(LocalDate date) {
+        Year year = year(date.getYear());
+        int day = date.getDayOfYear() - 1;
+        return year.feastsOn(year.days.contains(date.getDayOfYear()) ? day : -1);
+    }
+}
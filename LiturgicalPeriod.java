@@ -0,0 +1,87 @@
+package javaapplication3;
+
+/**
+ * The periods of the Orthodox year that follow Easter. Each period runs
+ * from a first to a last day, both included, counted in days from Easter,
+ * except for the Apostles' Fast which always ends on 28 June.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public enum LiturgicalPeriod {
+
+    /**
+     * The Triodion, from the Sunday of the Publican to Holy Saturday. Also
+     * known as "Τριώδιο"
+     */
+    TRIODION(-70, -1),
+    /**
+     * Great Lent, from Shrove Monday to the Friday before the Saturday of
+     * Lazarus. Also known as "Μεγάλη Σαρακοστή"
+     */
+    GREAT_LENT(-48, -9),
+    /**
+     * Holy Week, from Holy Monday to Holy Saturday. Also known as "Μεγάλη
+     * Εβδομάδα"
+     */
+    HOLY_WEEK(-6, -1),
+    /**
+     * Bright Week, from Easter to Easter Saturday. Also known as "Διακαινήσιμος
+     * Εβδομάδα"
+     */
+    BRIGHT_WEEK(0, 6),
+    /**
+     * The Pentecostarion, from Easter to the Sunday of All Saints. Also known
+     * as "Πεντηκοστάριο"
+     */
+    PENTECOSTARION(0, 56),
+    /**
+     * The Apostles' Fast, from the Monday after All Saints to 28 June. It does
+     * not occur in years when Easter is late enough for that Monday to be
+     * after 28 June. Also known as "Νηστεία των Αγίων Αποστόλων"
+     */
+    APOSTLES_FAST(57) {
+        @Override
+        int getEndEpochDay(int year, int easter) {
+            return OrthodoxComputus.epochDay(year, 6, 28);
+        }
+    };
+
+    private final int startOffset;
+    private final int endOffset;
+
+    private LiturgicalPeriod(int startOffset, int endOffset) {
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    /**
+     * Creates a period whose last day is not counted from Easter; it
+     * overrides {@link #getEndEpochDay(int, int)}.
+     */
+    private LiturgicalPeriod(int startOffset) {
+        this(startOffset, 0);
+    }
+
+    /**
+     * Returns the period of a year.
+     *
+     * @param year The year to calculate the period for. It must be over 1582
+     * and not over {@link EasterCalculator#MAX_YEAR}.
+     * @return the period, or null if it does not occur in the year.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public PeriodOccurrence forYear(int year) {
+        int easter = OrthodoxComputus.easterEpochDay(year);
+        int start = getStartEpochDay(easter);
+        int end = getEndEpochDay(year, easter);
+        return start <= end ? new PeriodOccurrence(year, this, start, end) : null;
+    }
+
+    int getStartEpochDay(int easter) {
+        return easter + startOffset;
+    }
+
+    int getEndEpochDay(int year, int easter) {
+        return easter + endOffset;
+    }
+}
@@ -0,0 +1,230 @@
+package javaapplication3;
+
+import java.util.EnumSet;
+
+/**
+ * The mobile Orthodox holy days calculated by {@link EasterCalculator}. Most
+ * of them fall a fixed number of days before or after Easter; the rest are
+ * anchored to a date of the year and move to keep a weekday or to follow
+ * Easter.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public enum MovableFeast {
+
+    /**
+     * Easter day. Also known as "Πάσχα"
+     */
+    EASTER(0),
+    /**
+     * Sunday of the Forefathers, the Sunday between 11 and 17 December. Also
+     * known as "Των Προπατόρων"
+     */
+    SUNDAY_OF_THE_FOREFATHERS,
+    /**
+     * Saint George day, 23 April or Easter Monday if that is later.
+     */
+    SAINT_GEORGE,
+    /**
+     * Mark the Evangelist day, 25 April or the day after Saint George if that
+     * is later.
+     */
+    MARK_THE_EVANGELIST,
+    /**
+     * Saint Cloe day, the Sunday between 13 and 19 February.
+     */
+    SAINT_CLOE,
+    /**
+     * The start of the Triodion. Also known as the Publican (or "Τελώνου και
+     * Φαρισαίου").
+     */
+    PUBLICAN(-70),
+    /**
+     * The prodigal son day.
+     */
+    PRODIGAL(-63),
+    /**
+     * The All Souls (A) day. Also known as "Ψυχοσάββατον Α'"
+     */
+    ALL_SOULS_A(-57),
+    /**
+     * The All Souls (B) day. Also known as "Ψυχοσάββατον Β'"
+     */
+    ALL_SOULS_B(48),
+    /**
+     * The Carnival day. Also known as "Αποκριά"
+     */
+    CARNIVAL(-56),
+    /**
+     * Shrove Monday. Also known as "Καθαρά Δευτέρα"
+     */
+    SHROVE_MONDAY(-48),
+    /**
+     * Shrove Thursday. Also known as "Τσικνοπέμπτη"
+     */
+    SHROVE_THURSDAY(-59),
+    /**
+     * Shrovetide Sunday. Also known as "Κυριακή της Τυροφάγου"
+     */
+    CHEESE_SUNDAY(-49),
+    /**
+     * The Gregory Palamas day.
+     */
+    GREGORY_PALAMAS(-35),
+    /**
+     * The Saint Theodore's day.
+     */
+    SAINT_THEODORE(-43),
+    /**
+     * Sunday of Orthodoxy.
+     */
+    SUNDAY_OF_ORTHODOXY(-42),
+    /**
+     * Lazarus Saturday.
+     */
+    LAZARUS(-8),
+    /**
+     * Palm Sunday. Also known as "Κυριακή των Βαίων"
+     */
+    PALM_SUNDAY(-7),
+    /**
+     * Holy Monday. Also known as "Μεγάλη Δευτέρα"
+     */
+    HOLY_MONDAY(-6),
+    /**
+     * Holy Tuesday. Also known as "Μεγάλη Τρίτη"
+     */
+    HOLY_TUESDAY(-5),
+    /**
+     * Holy Wednesday. Also known as "Μεγάλη Τετάρτη"
+     */
+    HOLY_WEDNESDAY(-4),
+    /**
+     * Holy Thursday. Also known as "Μεγάλη Πέμπτη"
+     */
+    HOLY_THURSDAY(-3),
+    /**
+     * Holy Friday. Also known as "Μεγάλη Παρασκευή"
+     */
+    HOLY_FRIDAY(-2),
+    /**
+     * Holy Saturday. Also known as "Μεγάλο Σάββατο"
+     */
+    HOLY_SATURDAY(-1),
+    /**
+     * Easter Monday. Also known as "Δευτέρα του Πάσχα"
+     */
+    EASTER_MONDAY(1),
+    /**
+     * Easter Tuesday. Also known as "Τρίτη του Πάσχα"
+     */
+    EASTER_TUESDAY(2),
+    /**
+     * Easter Wednesday. Also known as "Τετάρτη του Πάσχα"
+     */
+    EASTER_WEDNESDAY(3),
+    /**
+     * Easter Thursday. Also known as "Πέμπτη του Πάσχα"
+     */
+    EASTER_THURSDAY(4),
+    /**
+     * Easter Friday. Also known as "Παρασκεύη του Πάσχα"
+     */
+    EASTER_FRIDAY(5),
+    /**
+     * Easter Saturday. Also known as "Σάββατο του Πάσχα"
+     */
+    EASTER_SATURDAY(6),
+    /**
+     * The Life Giving Spring day. Also known as "Ζωοδόχου Πηγής"
+     */
+    LIFE_GIVING_SPRING(5),
+    /**
+     * Thomas Sunday. Also known as "Κυριακή του Θωμά"
+     */
+    THOMAS_SUNDAY(7),
+    /**
+     * The Myrrhbearers day. Also known as "Μυροφόρα"
+     */
+    MYRRHBEARERS(14),
+    /**
+     * The Paralytic's day. Also known as "Βηθεσδά"
+     */
+    PARALYTIC(21),
+    /**
+     * The Ascension day. Also known as "Ανάληψη"
+     */
+    ASCENSION(39),
+    /**
+     * The Pentecost day. Also known as "Πεντηκοστή"
+     */
+    PENTECOST(49),
+    /**
+     * The All Saints day. Also known as "Αγίων Πάντων"
+     */
+    ALL_SAINTS(56),
+    /**
+     * The Holy Spirit's day. Also known as "Αγίου Πνεύματος"
+     */
+    HOLY_SPIRIT(50);
+
+    private final boolean easterRelative;
+    private final int easterOffset;
+
+    private MovableFeast() {
+        this.easterRelative = false;
+        this.easterOffset = 0;
+    }
+
+    private MovableFeast(int easterOffset) {
+        this.easterRelative = true;
+        this.easterOffset = easterOffset;
+    }
+
+    /**
+     * Returns the bit of the feast in a feast mask.
+     *
+     * @return a long with only the bit of the feast's ordinal set.
+     */
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Returns the feasts of a mask.
+     *
+     * @param mask A mask of {@link #mask()} bits.
+     * @return a new set holding the feasts whose bits are set.
+     */
+    public static EnumSet<MovableFeast> setOf(long mask) {
+        EnumSet<MovableFeast> set = EnumSet.noneOf(MovableFeast.class);
+        for (MovableFeast feast : values()) {
+            if ((mask & feast.mask()) != 0) {
+                set.add(feast);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Tells whether the feast always falls a fixed number of days from Easter.
+     *
+     * @return true for every feast but the ones anchored to a date.
+     */
+    public boolean isEasterRelative() {
+        return easterRelative;
+    }
+
+    /**
+     * Returns the number of days from Easter to the feast.
+     *
+     * @return a negative number for feasts before Easter.
+     * @throws IllegalStateException if the feast is not Easter relative.
+     */
+    public int getEasterOffset() {
+        if (!easterRelative) {
+            throw new IllegalStateException(name() + " is not Easter relative");
+        }
+        return easterOffset;
+    }
+}
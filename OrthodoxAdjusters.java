@@ -0,0 +1,167 @@
+package javaapplication3;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * Adjusters and queries finding the Orthodox feasts and holidays of dates,
+ * for use with {@code LocalDate.with} and {@code LocalDate.query}. They read
+ * and set the epoch day of a date and look it up in the cached feasts and
+ * holiday sets, without constructing any calendar object.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class OrthodoxAdjusters {
+
+    // The days of the years the holy days are calculated for.
+    private static final int FIRST_DAY = OrthodoxComputus.epochDay(EasterTable.FIRST_YEAR, 1, 1);
+    private static final int LAST_DAY = OrthodoxComputus.epochDay(OrthodoxComputus.MAX_YEAR + 1, 1, 1) - 1;
+
+    private static final TemporalAdjuster[] NEXT = new TemporalAdjuster[OrthodoxComputus.FEAST_COUNT];
+    private static final TemporalAdjuster[] PREVIOUS = new TemporalAdjuster[OrthodoxComputus.FEAST_COUNT];
+
+    static {
+        for (final MovableFeast feast : MovableFeast.values()) {
+            NEXT[feast.ordinal()] = new TemporalAdjuster() {
+                @Override
+                public Temporal adjustInto(Temporal temporal) {
+                    int day = OrthodoxFeasts.nextEpochDay(feast, epochDay(temporal));
+                    if (day == OrthodoxFeasts.NONE) {
+                        throw new DateTimeException("No " + feast + " after " + temporal);
+                    }
+                    return temporal.with(ChronoField.EPOCH_DAY, day);
+                }
+            };
+            PREVIOUS[feast.ordinal()] = new TemporalAdjuster() {
+                @Override
+                public Temporal adjustInto(Temporal temporal) {
+                    int day = OrthodoxFeasts.previousEpochDay(feast, epochDay(temporal));
+                    if (day == OrthodoxFeasts.NONE) {
+                        throw new DateTimeException("No " + feast + " before " + temporal);
+                    }
+                    return temporal.with(ChronoField.EPOCH_DAY, day);
+                }
+            };
+        }
+    }
+
+    private static final TemporalQuery<Boolean> IS_ORTHODOX_HOLIDAY = new TemporalQuery<Boolean>() {
+        @Override
+        public Boolean queryFrom(TemporalAccessor temporal) {
+            long day = temporal.getLong(ChronoField.EPOCH_DAY);
+            return day >= FIRST_DAY && day <= LAST_DAY && HolyDays.isHolyDay((int) day);
+        }
+    };
+
+    private OrthodoxAdjusters() {
+    }
+
+    /**
+     * Returns a query telling whether a date is one of the holy days
+     * calculated by {@link EasterCalculator}, as
+     * {@link HolyDays#isHolyDay(int)} does. Dates outside the years 1583 to
+     * {@link EasterCalculator#MAX_YEAR} are not.
+     *
+     * @return the query.
+     */
+    public static TemporalQuery<Boolean> isOrthodoxHoliday() {
+        return IS_ORTHODOX_HOLIDAY;
+    }
+
+    /**
+     * Returns an adjuster to the next Easter after a date.
+     *
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster nextEaster() {
+        return nextFeast(MovableFeast.EASTER);
+    }
+
+    /**
+     * Returns an adjuster to the next occurrence of a feast after a date. The
+     * adjuster throws {@link DateTimeException} if there is none up to the end
+     * of {@link EasterCalculator#MAX_YEAR}.
+     *
+     * @param feast The feast to search for.
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster nextFeast(MovableFeast feast) {
+        return NEXT[feast.ordinal()];
+    }
+
+    /**
+     * Returns an adjuster to the last occurrence of a feast before a date. The
+     * adjuster throws {@link DateTimeException} if there is none from April
+     * 1583 on.
+     *
+     * @param feast The feast to search for.
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster previousFeast(MovableFeast feast) {
+        return PREVIOUS[feast.ordinal()];
+    }
+
+    /**
+     * Returns an adjuster to the next holiday of a profile after a date. Dates
+     * before 1583 are searched from 1 January 1583. The adjuster throws
+     * {@link DateTimeException} if there is no holiday up to
+     * {@link EasterCalculator#MAX_YEAR}.
+     *
+     * @param profile The holidays to search.
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster nextHolyDay(final HolidayProfile profile) {
+        return new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                long after = temporal.getLong(ChronoField.EPOCH_DAY);
+                if (after >= LAST_DAY) {
+                    throw new DateTimeException("No holiday of " + profile + " after " + temporal);
+                }
+                int from = (int) Math.max(after + 1, FIRST_DAY);
+                int year = OrthodoxComputus.civilDate(from) >>> 9;
+                int day = from - OrthodoxComputus.epochDay(year, 1, 1);
+                for (; year <= OrthodoxComputus.MAX_YEAR; year++, day = 0) {
+                    int next = profile.forYear(year).next(day);
+                    if (next >= 0) {
+                        return temporal.with(ChronoField.EPOCH_DAY, OrthodoxComputus.epochDay(year, 1, 1) + next);
+                    }
+                }
+                throw new DateTimeException("No holiday of " + profile + " after " + temporal);
+            }
+        };
+    }
+
+    /**
+     * Returns a query telling whether a date is a holiday of a profile. Dates
+     * outside the years 1583 to {@link EasterCalculator#MAX_YEAR} are not.
+     *
+     * @param profile The holidays to search.
+     * @return the query.
+     */
+    public static TemporalQuery<Boolean> isHoliday(final HolidayProfile profile) {
+        return new TemporalQuery<Boolean>() {
+            @Override
+            public Boolean queryFrom(TemporalAccessor temporal) {
+                long day = temporal.getLong(ChronoField.EPOCH_DAY);
+                if (day < FIRST_DAY || day > LAST_DAY) {
+                    return false;
+                }
+                int year = OrthodoxComputus.civilDate((int) day) >>> 9;
+                return profile.forYear(year).containsEpochDay((int) day);
+            }
+        };
+    }
+
+    private static int epochDay(TemporalAccessor temporal) {
+        long day = temporal.getLong(ChronoField.EPOCH_DAY);
+        if (day != (int) day) {
+            throw new DateTimeException("Date out of range: " + temporal);
+        }
+        return (int) day;
+    }
+}
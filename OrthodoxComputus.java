@@ -0,0 +1,407 @@
+package javaapplication3;
+
+/**
+ * The Orthodox computus as plain integer arithmetic. Days are numbers of days
+ * from 1970-01-01, and this class depends on nothing but {@code java.lang},
+ * so calculating them loads no calendar, time zone or locale data.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class OrthodoxComputus {
+
+    /**
+     * The last year the computus is defined for, so that every epoch day it
+     * produces fits in an {@code int}.
+     */
+    public static final int MAX_YEAR = 1000000;
+
+    /**
+     * The number of {@link MovableFeast} constants, which is the number of
+     * days {@link #allFeasts(int, int[])} fills per year.
+     */
+    public static final int FEAST_COUNT = MovableFeast.values().length;
+
+    private static final MovableFeast[] FEASTS = MovableFeast.values();
+
+    // The most days a feast falls after Easter. Saint George and Mark the
+    // Evangelist fall at most two days after it.
+    private static final int LATEST_EASTER_OFFSET = latestEasterOffset();
+
+    /**
+     * Whether the bulk methods may use the {@code jdk.incubator.vector} kernel,
+     * set with {@code -Djavaapplication3.vector=true}.
+     */
+    private static final boolean VECTOR = Boolean.getBoolean("javaapplication3.vector");
+
+    private OrthodoxComputus() {
+    }
+
+    /**
+     * Calculates Easter day without constructing any calendar object.
+     *
+     * @param year The year to search Easter for. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @return the number of days from 1970-01-01 to Easter day.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public static int easterEpochDay(int year) {
+        checkYear(year);
+        return calculateEaster(year);
+    }
+
+    static void checkYear(int year) {
+        if (year <= 1582) {
+            throw new IllegalArgumentException("Algorithm invalid before April 1583");
+        }
+        if (year > MAX_YEAR) {
+            throw new IllegalArgumentException("Algorithm invalid after " + MAX_YEAR);
+        }
+    }
+
+    private static int latestEasterOffset() {
+        int latest = 2;
+        for (MovableFeast feast : FEASTS) {
+            if (feast.isEasterRelative()) {
+                latest = Math.max(latest, feast.getEasterOffset());
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Returns the first year with a feast falling in a Gregorian year. Every
+     * feast falls in its own year or later: the Julian calendar drifts three
+     * days every four centuries from the Gregorian one, so from 26208 on the
+     * last feasts of a year fall in the next, and by {@link #MAX_YEAR} Easter
+     * falls some twenty years after the year it is calculated for.
+     */
+    static int firstYearFallingIn(int year) {
+        int start = epochDay(year, 1, 1);
+        int first = year;
+        while (first > 1583 && calculateEaster(first - 1) + LATEST_EASTER_OFFSET >= start) {
+            first--;
+        }
+        return first;
+    }
+
+    static int calculateEaster(int year) {
+        int days = EasterTable.contains(year) ? EasterTable.lookup(year) : PaschalCycle.julianEaster(year);
+        return epochDay(year, 3, 22) + days + calculateJulianOffset(year);
+    }
+
+    /**
+     * Calculates the Julian Easter date as the number of days after the 22nd
+     * of March, which is always between 0 and 34.
+     */
+    static int calculateJulianEaster(int year) {
+        int G = year % 19;
+        int I = (19 * G + 15) % 30;
+        int J = (year + year / 4 + I) % 7;
+        int L = I - J;
+        return L + 6;
+    }
+
+    /**
+     * Calculates the number of days the Gregorian calendar is ahead of the
+     * Julian one during the given year.
+     */
+    static int calculateJulianOffset(int year) {
+        int e = 10;
+
+        if (year > 1600) {
+            int y2 = year / 100;
+            e = 10 + y2 - 16 - (y2 - 16) / 4;
+        }
+
+        return e;
+    }
+
+    /**
+     * Converts a proleptic Gregorian date to the number of days from
+     * 1970-01-01. The year must not be negative.
+     */
+    static int epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /**
+     * Converts a date of the Julian calendar to the number of days from
+     * 1970-01-01. The calendars differ by the century years that are leap
+     * only in the Julian one.
+     */
+    static int julianEpochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        return epochDay(year, month, day) + y / 100 - y / 400 - 2;
+    }
+
+    /**
+     * Calculates the Western Easter date, used by the churches that follow
+     * the Gregorian computus, by the anonymous Gregorian algorithm.
+     */
+    static int calculateWesternEaster(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - b / 4 - g + 15) % 30;
+        int l = (32 + 2 * (b % 4) + 2 * (c / 4) - h - c % 4) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int n = h + l - 7 * m + 114;
+        return epochDay(year, n / 31, n % 31 + 1);
+    }
+
+    /**
+     * Converts a number of days from 1970-01-01 to a proleptic Gregorian date,
+     * packed as {@code year << 9 | month << 5 | day}.
+     */
+    static int civilDate(int epochDay) {
+        int z = epochDay + 719468;
+        int era = z / 146097;
+        int doe = z - era * 146097;
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * Calculates the day of a feast without constructing any calendar object.
+     *
+     * @param feast The feast to search for.
+     * @param year The year to search the feast for. It must be over 1582 and
+     * not over {@link #MAX_YEAR}.
+     * @return the number of days from 1970-01-01 to the feast.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public static int epochDayOf(MovableFeast feast, int year) {
+        checkYear(year);
+        return calculateFeast(feast, year, calculateEaster(year));
+    }
+
+    /**
+     * Calculates the days of every feast of a year without constructing any
+     * calendar object.
+     *
+     * @param year The year to search dates for. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @param out The array to fill, indexed by {@link MovableFeast#ordinal()}.
+     * @return the given array, holding the number of days from 1970-01-01 to
+     * each feast.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public static int[] allFeasts(int year, int[] out) {
+        checkYear(year);
+        if (out.length < FEAST_COUNT) {
+            throw new IllegalArgumentException("Array shorter than " + FEAST_COUNT);
+        }
+
+        fillFeasts(year, calculateEaster(year), out, 0);
+        return out;
+    }
+
+    /**
+     * Calculates Easter day of every year in a range without creating any
+     * object.
+     *
+     * @param fromYear The first year of the range. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @param toYear The last year of the range, inclusive, not over
+     * {@link #MAX_YEAR}.
+     * @param out The array to fill, holding at index {@code i} the number of
+     * days from 1970-01-01 to Easter day of {@code fromYear + i}.
+     * @return the given array.
+     * @throws IllegalArgumentException if a year is out of range or the range
+     * ends before it starts.
+     */
+    public static int[] computeEasterRange(int fromYear, int toYear, int[] out) {
+        checkRange(fromYear, toYear, out, 1);
+
+        if (VECTOR) {
+            EasterKernel kernel = VectorHolder.KERNEL;
+            if (kernel != null) {
+                kernel.computeEasterRange(fromYear, toYear, out);
+                return out;
+            }
+        }
+        computeEasterRange(fromYear, toYear, out, 0);
+        return out;
+    }
+
+    /**
+     * Tells whether {@link #computeEasterRange(int, int, int[])} runs on the
+     * vector kernel, which needs {@code -Djavaapplication3.vector=true} and a
+     * kernel that loaded and matched the scalar one.
+     *
+     * @return true if the vector kernel is in use.
+     */
+    public static boolean isVectorKernelEnabled() {
+        return VECTOR && VectorHolder.KERNEL != null;
+    }
+
+    /**
+     * The scalar kernel, writing Easter day of {@code fromYear} at
+     * {@code out[offset]}. The vector kernel finishes its last partial batch
+     * with it.
+     */
+    static void computeEasterRange(int fromYear, int toYear, int[] out, int offset) {
+        for (int year = fromYear, i = offset; year <= toYear; year++, i++) {
+            int G = year % 19;
+            int I = (19 * G + 15) % 30;
+            int J = (year + year / 4 + I) % 7;
+            int L = I - J;
+            int centuries = Math.max(year / 100 - 16, 0);
+            int e = 10 + centuries - centuries / 4;
+            int marchTwentySecond = 365 * year + year / 4 - year / 100 + year / 400 - 719468 + 21;
+            out[i] = marchTwentySecond + L + 6 + e;
+        }
+    }
+
+    /**
+     * Loads the vector kernel, which is only compiled for Java 17 and later
+     * and needs {@code --add-modules jdk.incubator.vector}. It is used only if
+     * it matches the scalar kernel bit for bit over the precomputed table
+     * range; otherwise the scalar kernel is kept.
+     */
+    private static final class VectorHolder {
+
+        static final EasterKernel KERNEL = load();
+
+        private static EasterKernel load() {
+            EasterKernel kernel;
+            try {
+                kernel = (EasterKernel) Class.forName("javaapplication3.VectorEasterKernel")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException ex) {
+                return null;
+            } catch (LinkageError ex) {
+                return null;
+            }
+
+            int count = EasterTable.LAST_YEAR - EasterTable.FIRST_YEAR + 1;
+            int[] expected = new int[count];
+            int[] actual = new int[count];
+            computeEasterRange(EasterTable.FIRST_YEAR, EasterTable.LAST_YEAR, expected, 0);
+            kernel.computeEasterRange(EasterTable.FIRST_YEAR, EasterTable.LAST_YEAR, actual);
+            for (int i = 0; i < count; i++) {
+                if (expected[i] != actual[i]) {
+                    return null;
+                }
+            }
+            return kernel;
+        }
+    }
+
+    /**
+     * Calculates the days of every feast of every year in a range without
+     * creating any object.
+     *
+     * @param fromYear The first year of the range. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @param toYear The last year of the range, inclusive, not over
+     * {@link #MAX_YEAR}.
+     * @param out The array to fill, holding the number of days from 1970-01-01
+     * to a feast of {@code fromYear + i} at index
+     * {@code i * FEAST_COUNT + feast.ordinal()}.
+     * @return the given array.
+     * @throws IllegalArgumentException if a year is out of range or the range
+     * ends before it starts.
+     */
+    public static int[] computeFeastRange(int fromYear, int toYear, int[] out) {
+        checkRange(fromYear, toYear, out, FEAST_COUNT);
+        computeEasterRange(fromYear, toYear, out);
+
+        // Walk backwards so every Easter day is read before its row is filled.
+        for (int i = toYear - fromYear; i >= 0; i--) {
+            fillFeasts(fromYear + i, out[i], out, i * FEAST_COUNT);
+        }
+        return out;
+    }
+
+    /**
+     * Checks that both ends of a range of years are in range and that the
+     * range does not end before it starts.
+     */
+    static void checkRange(int fromYear, int toYear) {
+        checkYear(fromYear);
+        checkYear(toYear);
+        if (toYear < fromYear) {
+            throw new IllegalArgumentException("Range ends before it starts");
+        }
+    }
+
+    private static void checkRange(int fromYear, int toYear, int[] out, int perYear) {
+        checkRange(fromYear, toYear);
+        long length = (long) (toYear - fromYear + 1) * perYear;
+        if (out.length < length) {
+            throw new IllegalArgumentException("Array shorter than " + length);
+        }
+    }
+
+    private static void fillFeasts(int year, int easter, int[] out, int offset) {
+        for (MovableFeast feast : FEASTS) {
+            if (feast.isEasterRelative()) {
+                out[offset + feast.ordinal()] = easter + feast.getEasterOffset();
+            }
+        }
+        int g = calculateSaintGeorge(year, easter);
+        out[offset + MovableFeast.SUNDAY_OF_THE_FOREFATHERS.ordinal()] = calculateSundayOfTheForefathers(year);
+        out[offset + MovableFeast.SAINT_GEORGE.ordinal()] = g;
+        out[offset + MovableFeast.MARK_THE_EVANGELIST.ordinal()] = calculateMarkTheEvangelist(year, g);
+        out[offset + MovableFeast.SAINT_CLOE.ordinal()] = calculateCloe(year);
+    }
+
+    static int calculateFeast(MovableFeast feast, int year, int easter) {
+        switch (feast) {
+            case SUNDAY_OF_THE_FOREFATHERS:
+                return calculateSundayOfTheForefathers(year);
+            case SAINT_GEORGE:
+                return calculateSaintGeorge(year, easter);
+            case MARK_THE_EVANGELIST:
+                return calculateMarkTheEvangelist(year, calculateSaintGeorge(year, easter));
+            case SAINT_CLOE:
+                return calculateCloe(year);
+            default:
+                return easter + feast.getEasterOffset();
+        }
+    }
+
+    static int calculateSundayOfTheForefathers(int year) {
+        return nextOrSameSunday(epochDay(year, 12, 11));
+    }
+
+    static int calculateSaintGeorge(int year, int easter) {
+        int g = epochDay(year, 4, 23);
+        return g <= easter ? easter + 1 : g;
+    }
+
+    static int calculateMarkTheEvangelist(int year, int george) {
+        int m = epochDay(year, 4, 25);
+        return m <= george ? george + 1 : m;
+    }
+
+    static int calculateCloe(int year) {
+        return nextOrSameSunday(epochDay(year, 2, 13));
+    }
+
+    private static int nextOrSameSunday(int epochDay) {
+        return epochDay + 7 - dayOfWeek(epochDay);
+    }
+
+    /**
+     * Returns the day of the week of a day, from 1 for Monday to 7 for
+     * Sunday, as {@link java.time.DayOfWeek#getValue()} numbers them.
+     */
+    static int dayOfWeek(int epochDay) {
+        // 1970-01-01 was a Thursday.
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+}
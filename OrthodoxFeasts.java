@@ -0,0 +1,298 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Queries over the feasts of many years at once.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class OrthodoxFeasts {
+
+    /**
+     * Returned by the day searches when the feast does not occur.
+     */
+    static final int NONE = Integer.MIN_VALUE;
+
+    // The last day of the last year the holy days are calculated for. Feasts
+    // of the last years that drift past it are not searched, so that every
+    // day found is one HolyDays knows.
+    private static final int LAST_DAY = OrthodoxComputus.epochDay(OrthodoxComputus.MAX_YEAR + 1, 1, 1) - 1;
+
+    private OrthodoxFeasts() {
+    }
+
+    /**
+     * The feasts of the tabulated years, 1583 to 9999, built on first use.
+     */
+    private static final class Table {
+
+        static final FeastMatrix MATRIX = FeastMatrix.build(EasterTable.FIRST_YEAR, EasterTable.LAST_YEAR);
+    }
+
+    /**
+     * The tabulated years grouped by the date of each feast, built on first
+     * use.
+     */
+    private static final class Dates {
+
+        static final FeastDateIndex INDEX = new FeastDateIndex(Table.MATRIX);
+    }
+
+    /**
+     * Returns the next occurrences of a feast after a date. The days of a
+     * feast ascend with the year, so up to 9999 they are found by binary
+     * search in the feast's days, and later by binary search over the years.
+     *
+     * @param feast The feast to search for.
+     * @param from The date after which to search, exclusive.
+     * @param n The number of occurrences to return.
+     * @return a new array of the occurrences, in order. It is shorter than
+     * {@code n} only if the search passes the end of
+     * {@link EasterCalculator#MAX_YEAR}.
+     * @throws IllegalArgumentException if {@code n} is negative or the date
+     * is too far from 1970 to count its days in an {@code int}.
+     */
+    public static LocalDate[] nextOccurrences(MovableFeast feast, LocalDate from, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative count " + n);
+        }
+        int fromDay = epochDay(from);
+        int[] column = Table.MATRIX.columnArray(feast);
+        int i = Arrays.binarySearch(column, fromDay);
+        i = i < 0 ? -i - 1 : i + 1;
+        int count = Math.min(n, column.length - i);
+        // No feast occurs more than once a year.
+        int[] days = new int[Math.min(n, OrthodoxComputus.MAX_YEAR - EasterTable.FIRST_YEAR + 1)];
+        System.arraycopy(column, i, days, 0, count);
+        int year = i < column.length ? EasterTable.LAST_YEAR + 1 : firstYearAfter(feast, fromDay);
+        for (; count < n && year <= OrthodoxComputus.MAX_YEAR; year++) {
+            int day = OrthodoxComputus.epochDayOf(feast, year);
+            if (day > LAST_DAY) {
+                break;
+            }
+            days[count++] = day;
+        }
+        LocalDate[] dates = new LocalDate[count];
+        for (int j = 0; j < count; j++) {
+            dates[j] = LocalDate.ofEpochDay(days[j]);
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the last occurrence of a feast before a date.
+     *
+     * @param feast The feast to search for.
+     * @param from The date before which to search, exclusive.
+     * @return the date of the occurrence, or null if the feast does not occur
+     * between April 1583 and the date.
+     * @throws IllegalArgumentException if the date is too far from 1970 to
+     * count its days in an {@code int}.
+     */
+    public static LocalDate previousOccurrence(MovableFeast feast, LocalDate from) {
+        int day = previousEpochDay(feast, epochDay(from));
+        return day == NONE ? null : LocalDate.ofEpochDay(day);
+    }
+
+    private static int epochDay(LocalDate date) {
+        long day = date.toEpochDay();
+        if (day != (int) day) {
+            throw new IllegalArgumentException("Date out of range: " + date);
+        }
+        return (int) day;
+    }
+
+    /**
+     * Returns the day of the first occurrence of a feast after a day, or
+     * {@link #NONE} if it passes the end of {@link EasterCalculator#MAX_YEAR}.
+     */
+    static int nextEpochDay(MovableFeast feast, int epochDay) {
+        int[] column = Table.MATRIX.columnArray(feast);
+        int i = Arrays.binarySearch(column, epochDay);
+        i = i < 0 ? -i - 1 : i + 1;
+        if (i < column.length) {
+            return column[i];
+        }
+        int year = firstYearAfter(feast, epochDay);
+        int day = year > OrthodoxComputus.MAX_YEAR ? NONE : OrthodoxComputus.epochDayOf(feast, year);
+        return day > LAST_DAY ? NONE : day;
+    }
+
+    /**
+     * Returns the day of the last occurrence of a feast before a day, or
+     * {@link #NONE} if it does not occur between April 1583 and the day. Days
+     * after the end of {@link EasterCalculator#MAX_YEAR} are searched from
+     * there.
+     */
+    static int previousEpochDay(MovableFeast feast, int epochDay) {
+        int before = Math.min(epochDay, LAST_DAY + 1);
+        int[] column = Table.MATRIX.columnArray(feast);
+        if (column[column.length - 1] < before) {
+            int year = firstYearAfter(feast, before - 1) - 1;
+            return OrthodoxComputus.epochDayOf(feast, year);
+        }
+        int i = Arrays.binarySearch(column, before);
+        i = i < 0 ? -i - 2 : i - 1;
+        return i < 0 ? NONE : column[i];
+    }
+
+    /**
+     * Returns the first year after 9999 in which a feast falls after a day,
+     * or one past {@link OrthodoxComputus#MAX_YEAR} if there is none. The
+     * Julian calendar drifts from the Gregorian, so far enough ahead a feast
+     * falls years later than the year it is calculated for.
+     */
+    private static int firstYearAfter(MovableFeast feast, int epochDay) {
+        int low = EasterTable.LAST_YEAR + 1;
+        int high = OrthodoxComputus.MAX_YEAR + 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (OrthodoxComputus.epochDayOf(feast, mid) > epochDay) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns every year from 1583 to 9999 in which a feast falls on a date,
+     * such as every year Easter falls on 4 May.
+     *
+     * @param feast The feast to search for.
+     * @param date The month and day to search the feast on.
+     * @return a new array of the years, in ascending order.
+     */
+    public static int[] yearsOn(MovableFeast feast, MonthDay date) {
+        return Dates.INDEX.yearsOn(feast, date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Returns every year from 1583 to 9999 in which a feast falls on a date.
+     *
+     * @param feast The feast to search for.
+     * @param month The month to search the feast on, from 1 to 12.
+     * @param dayOfMonth The day of the month to search the feast on.
+     * @return a new array of the years, in ascending order.
+     */
+    public static int[] yearsOn(MovableFeast feast, int month, int dayOfMonth) {
+        return yearsOn(feast, MonthDay.of(month, dayOfMonth));
+    }
+
+    /**
+     * Returns every year from 1583 to 9999 in which a feast does not fall on
+     * a date, such as every year Saint George is moved from 23 April to
+     * Easter Monday.
+     *
+     * @param feast The feast to search for.
+     * @param date The month and day the feast is not on.
+     * @return a new array of the years, in ascending order.
+     */
+    public static int[] yearsNotOn(MovableFeast feast, MonthDay date) {
+        return Dates.INDEX.yearsNotOn(feast, date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Streams every feast of every year in a range, ordered by year and then
+     * by {@link MovableFeast#ordinal()}. The feasts are calculated lazily, one
+     * year at a time, and the stream splits evenly when run in parallel.
+     *
+     * @param fromYear The first year of the range. It must be over 1582 and not
+     * over {@link EasterCalculator#MAX_YEAR}.
+     * @param toYear The last year of the range, inclusive, not over
+     * {@link EasterCalculator#MAX_YEAR}.
+     * @return a stream of the feasts.
+     * @throws IllegalArgumentException if a year is out of range or the range
+     * ends before it starts.
+     */
+    public static Stream<FeastOccurrence> stream(int fromYear, int toYear) {
+        OrthodoxComputus.checkRange(fromYear, toYear);
+        long size = (long) (toYear - fromYear + 1) * OrthodoxComputus.FEAST_COUNT;
+        return StreamSupport.stream(new FeastSpliterator(fromYear, 0, size), false);
+    }
+
+    /**
+     * Walks the feasts of a range of years by index, where index {@code i}
+     * is feast {@code i % FEAST_COUNT} of year {@code fromYear + i / FEAST_COUNT}.
+     * Each year is calculated once, when its first feast is reached.
+     */
+    private static final class FeastSpliterator implements Spliterator<FeastOccurrence> {
+
+        private static final MovableFeast[] FEASTS = MovableFeast.values();
+        private static final int COUNT = OrthodoxComputus.FEAST_COUNT;
+
+        private final int fromYear;
+        private long index;
+        private final long fence;
+        private final int[] days = new int[COUNT];
+        private int year = -1;
+
+        FeastSpliterator(int fromYear, long origin, long fence) {
+            this.fromYear = fromYear;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super FeastOccurrence> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super FeastOccurrence> action) {
+            while (index < fence) {
+                action.accept(next());
+            }
+        }
+
+        private FeastOccurrence next() {
+            int y = fromYear + (int) (index / COUNT);
+            int feast = (int) (index % COUNT);
+            if (y != year) {
+                OrthodoxComputus.allFeasts(y, days);
+                year = y;
+            }
+            index++;
+            return new FeastOccurrence(y, FEASTS[feast], days[feast]);
+        }
+
+        @Override
+        public Spliterator<FeastOccurrence> trySplit() {
+            long remaining = fence - index;
+            if (remaining < 2) {
+                return null;
+            }
+            // Prefer a year boundary, so that no year is calculated twice.
+            long mid = index + remaining / 2;
+            long boundary = mid - mid % COUNT;
+            if (boundary > index) {
+                mid = boundary;
+            }
+            Spliterator<FeastOccurrence> prefix = new FeastSpliterator(fromYear, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+import java.util.function.IntFunction;
+
+/**
+ * The mobile Orthodox holy days of a year as immutable dates. Every date is
+ * calculated once, so instances can be shared freely between threads.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class OrthodoxYear {
+
+    private static final YearTable<OrthodoxYear> YEARS = new YearTable<OrthodoxYear>(64,
+            new IntFunction<OrthodoxYear>() {
+                @Override
+                public OrthodoxYear apply(int year) {
+                    return new OrthodoxYear(year);
+                }
+            });
+
+    private final int year;
+    private final LocalDate[] dates;
+
+    private OrthodoxYear(int year) {
+        MovableFeast[] feasts = MovableFeast.values();
+        int[] days = OrthodoxComputus.allFeasts(year, new int[feasts.length]);
+
+        this.year = year;
+        this.dates = new LocalDate[feasts.length];
+        for (int i = 0; i < feasts.length; i++) {
+            dates[i] = LocalDate.ofEpochDay(days[i]);
+        }
+    }
+
+    /**
+     * Returns the holy days of a year, shared by every caller asking for the
+     * same year. The years 1583 to 9999 are calculated once; the most
+     * recently used others are kept in a bounded cache.
+     *
+     * @param year The year to search dates for. It must be over 1582 and not
+     * over {@link EasterCalculator#MAX_YEAR}.
+     * @return the holy days of the year.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public static OrthodoxYear of(int year) {
+        return YEARS.get(year);
+    }
+
+    /**
+     * Returns the year the holy days were calculated for.
+     *
+     * @return the year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the day of a feast.
+     *
+     * @param feast The feast to search for.
+     * @return a date representing the day.
+     */
+    public LocalDate get(MovableFeast feast) {
+        return dates[feast.ordinal()];
+    }
+
+    /**
+     * Returns Easter day. Also known as "Πάσχα"
+     *
+     * @return a date representing the day.
+     */
+    public LocalDate getEaster() {
+        return dates[MovableFeast.EASTER.ordinal()];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof OrthodoxYear && ((OrthodoxYear) obj).year == year;
+    }
+
+    @Override
+    public int hashCode() {
+        return year;
+    }
+
+    @Override
+    public String toString() {
+        return "OrthodoxYear[" + year + "]";
+    }
+}
@@ -0,0 +1,172 @@
+package javaapplication3;
+
+/**
+ * Walks the feasts year by year. Every quantity the computus divides for (the
+ * golden number, the epact, the weekday terms, the century and the leap year
+ * rules) is carried from one year to the next, so after the starting year
+ * each {@link #advance()} takes a handful of additions and no divisions.
+ * <p>
+ * A cursor is mutable and must not be shared between threads.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class PaschalCursor {
+
+    private static final byte[] MOD_7 = new byte[37];
+
+    static {
+        for (int i = 0; i < MOD_7.length; i++) {
+            MOD_7[i] = (byte) (i % 7);
+        }
+    }
+
+    private int year;
+    // year % 19 and the epact (19 G + 15) % 30
+    private int golden;
+    private int epact;
+    // (year + year / 4) % 7
+    private int weekdayTerm;
+    private int yearOfCentury;
+    private int hundredsMod4;
+    private int hundreds;
+    private int julianOffset;
+    private int marchTwentySecond;
+    // The weekday of the 22nd of March, from 0 for Monday to 6 for Sunday.
+    private int marchWeekday;
+    private int easter;
+
+    /**
+     * Places the cursor on a year.
+     *
+     * @param year The first year to search dates for. It must be over 1582 and
+     * not over {@link EasterCalculator#MAX_YEAR}.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public PaschalCursor(int year) {
+        OrthodoxComputus.checkYear(year);
+        this.year = year;
+        golden = year % 19;
+        epact = (19 * golden + 15) % 30;
+        weekdayTerm = (year + year / 4) % 7;
+        yearOfCentury = year % 100;
+        hundreds = year / 100;
+        hundredsMod4 = hundreds % 4;
+        julianOffset = OrthodoxComputus.calculateJulianOffset(year);
+        marchTwentySecond = OrthodoxComputus.epochDay(year, 3, 22);
+        marchWeekday = OrthodoxComputus.dayOfWeek(marchTwentySecond) - 1;
+        easter = calculateEaster();
+    }
+
+    /**
+     * Moves the cursor to the next year.
+     */
+    public void advance() {
+        if (year == OrthodoxComputus.MAX_YEAR) {
+            throw new IllegalStateException("Algorithm invalid after " + OrthodoxComputus.MAX_YEAR);
+        }
+        year++;
+
+        if (++golden == 19) {
+            golden = 0;
+            epact = 15;
+        } else if ((epact += 19) >= 30) {
+            epact -= 30;
+        }
+
+        if (++yearOfCentury == 100) {
+            yearOfCentury = 0;
+            hundreds++;
+            hundredsMod4 = hundredsMod4 == 3 ? 0 : hundredsMod4 + 1;
+            if (hundreds > 16 && hundredsMod4 != 0) {
+                julianOffset++;
+            }
+        }
+
+        weekdayTerm += (yearOfCentury & 3) == 0 ? 2 : 1;
+        if (weekdayTerm >= 7) {
+            weekdayTerm -= 7;
+        }
+
+        // The 22nd of March moves by a year that ends with this February.
+        if (isLeap()) {
+            marchTwentySecond += 366;
+            marchWeekday += 2;
+        } else {
+            marchTwentySecond += 365;
+            marchWeekday += 1;
+        }
+        if (marchWeekday >= 7) {
+            marchWeekday -= 7;
+        }
+        easter = calculateEaster();
+    }
+
+    private int calculateEaster() {
+        int J = MOD_7[weekdayTerm + epact];
+        return marchTwentySecond + epact - J + 6 + julianOffset;
+    }
+
+    private boolean isLeap() {
+        return (yearOfCentury & 3) == 0 && (yearOfCentury != 0 || hundredsMod4 == 0);
+    }
+
+    /**
+     * Returns the year the cursor is on.
+     *
+     * @return the year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns Easter day of the current year.
+     *
+     * @return the number of days from 1970-01-01 to Easter day.
+     */
+    public int getEasterEpochDay() {
+        return easter;
+    }
+
+    /**
+     * Returns the day of a feast of the current year.
+     *
+     * @param feast The feast to search for.
+     * @return the number of days from 1970-01-01 to the feast.
+     */
+    public int getEpochDay(MovableFeast feast) {
+        switch (feast) {
+            case SUNDAY_OF_THE_FOREFATHERS:
+                // The 11th of December is 264 days, 37 weeks and 5 days, after
+                // the 22nd of March.
+                return nextOrSameSunday(marchTwentySecond + 264, 5);
+            case SAINT_GEORGE:
+                return saintGeorge();
+            case MARK_THE_EVANGELIST:
+                int m = marchTwentySecond + 34;
+                int g = saintGeorge();
+                return m <= g ? g + 1 : m;
+            case SAINT_CLOE:
+                // The 13th of February is 37 days before the 22nd of March,
+                // or 38 in a leap year, which moves the weekday on by 5 or 4.
+                return isLeap()
+                        ? nextOrSameSunday(marchTwentySecond - 38, 4)
+                        : nextOrSameSunday(marchTwentySecond - 37, 5);
+            default:
+                return easter + feast.getEasterOffset();
+        }
+    }
+
+    private int saintGeorge() {
+        int g = marchTwentySecond + 32;
+        return g <= easter ? easter + 1 : g;
+    }
+
+    private int nextOrSameSunday(int epochDay, int weekdayShift) {
+        int weekday = marchWeekday + weekdayShift;
+        if (weekday >= 7) {
+            weekday -= 7;
+        }
+        return epochDay + 6 - weekday;
+    }
+}
@@ -0,0 +1,75 @@
+package javaapplication3;
+
+/**
+ * Calculates Easter for any year through the 532-year Julian paschal cycle.
+ * The Julian Easter date depends only on the year modulo 532, so it is read
+ * from a table of 532 entries; the only other term is the number of days the
+ * Gregorian calendar has drifted from the Julian one, which changes once per
+ * century.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class PaschalCycle {
+
+    /**
+     * The length of the Julian paschal cycle in years.
+     */
+    public static final int LENGTH = 532;
+
+    /**
+     * The last year the cycle can be used for, so that every epoch day it
+     * produces fits in a {@code long}.
+     */
+    public static final long MAX_YEAR = 1000000000000000L;
+
+    private static final byte[] CYCLE = new byte[LENGTH];
+
+    static {
+        for (int i = 0; i < LENGTH; i++) {
+            CYCLE[i] = (byte) OrthodoxComputus.calculateJulianEaster(i);
+        }
+    }
+
+    private PaschalCycle() {
+    }
+
+    /**
+     * Calculates Easter day of any year.
+     *
+     * @param year The year to search Easter for. It must be over 1582 and not
+     * over {@link #MAX_YEAR}.
+     * @return the number of days from 1970-01-01 to Easter day.
+     * @throws IllegalArgumentException if the year is out of range.
+     */
+    public static long easterEpochDay(long year) {
+        if (year <= 1582) {
+            throw new IllegalArgumentException("Algorithm invalid before April 1583");
+        }
+        if (year > MAX_YEAR) {
+            throw new IllegalArgumentException("Algorithm invalid after " + MAX_YEAR);
+        }
+        return marchTwentySecond(year) + julianEaster(year) + julianOffset(year);
+    }
+
+    /**
+     * Returns the Julian Easter date as the number of days after the 22nd of
+     * March.
+     */
+    static int julianEaster(long year) {
+        return CYCLE[(int) (year % LENGTH)];
+    }
+
+    private static long julianOffset(long year) {
+        if (year <= 1600) {
+            return 10;
+        }
+        long centuries = year / 100 - 16;
+        return 10 + centuries - centuries / 4;
+    }
+
+    private static long marchTwentySecond(long year) {
+        long era = year / 400;
+        long yoe = year - era * 400;
+        return era * 146097 + yoe * 365 + yoe / 4 - yoe / 100 + 21 - 719468;
+    }
+}
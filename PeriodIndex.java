@@ -0,0 +1,151 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The liturgical periods of a range of years sorted by their first day.
+ * No period is longer than the longest one of the range, so the periods
+ * containing a day all start at most that many days before it, and are
+ * found by a binary search followed by a short backward scan.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class PeriodIndex {
+
+    private final int fromYear;
+    private final int toYear;
+    private final PeriodOccurrence[] periods;
+    private final int[] starts;
+    private final int[] ends;
+    private final int maxLength;
+
+    private PeriodIndex(int fromYear, int toYear, PeriodOccurrence[] periods) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.periods = periods;
+        this.starts = new int[periods.length];
+        this.ends = new int[periods.length];
+        int max = 0;
+        for (int i = 0; i < periods.length; i++) {
+            starts[i] = periods[i].getStartEpochDay();
+            ends[i] = periods[i].getEndEpochDay();
+            max = Math.max(max, ends[i] - starts[i]);
+        }
+        this.maxLength = max;
+    }
+
+    /**
+     * Calculates every liturgical period of every year in a range.
+     *
+     * @param fromYear The first year of the range. It must be over 1582 and not
+     * over {@link EasterCalculator#MAX_YEAR}.
+     * @param toYear The last year of the range, inclusive, not over
+     * {@link EasterCalculator#MAX_YEAR}.
+     * @return the periods of the range.
+     * @throws IllegalArgumentException if a year is out of range or the range
+     * ends before it starts.
+     */
+    public static PeriodIndex build(int fromYear, int toYear) {
+        OrthodoxComputus.checkRange(fromYear, toYear);
+        LiturgicalPeriod[] values = LiturgicalPeriod.values();
+        List<PeriodOccurrence> list = new ArrayList<PeriodOccurrence>((toYear - fromYear + 1) * values.length);
+        for (int year = fromYear; year <= toYear; year++) {
+            int easter = OrthodoxComputus.easterEpochDay(year);
+            for (LiturgicalPeriod period : values) {
+                int start = period.getStartEpochDay(easter);
+                int end = period.getEndEpochDay(year, easter);
+                if (start <= end) {
+                    list.add(new PeriodOccurrence(year, period, start, end));
+                }
+            }
+        }
+        PeriodOccurrence[] periods = list.toArray(new PeriodOccurrence[list.size()]);
+        // Already sorted for any real year; the sort is stable and cheap then.
+        Arrays.sort(periods, new Comparator<PeriodOccurrence>() {
+            @Override
+            public int compare(PeriodOccurrence a, PeriodOccurrence b) {
+                return Integer.compare(a.getStartEpochDay(), b.getStartEpochDay());
+            }
+        });
+        return new PeriodIndex(fromYear, toYear, periods);
+    }
+
+    /**
+     * Returns the first year of the range.
+     *
+     * @return the year.
+     */
+    public int getFromYear() {
+        return fromYear;
+    }
+
+    /**
+     * Returns the last year of the range.
+     *
+     * @return the year.
+     */
+    public int getToYear() {
+        return toYear;
+    }
+
+    /**
+     * Returns the periods containing a date.
+     *
+     * @param date The date to search for.
+     * @return the periods of the range running on the date, ordered by their
+     * first day.
+     */
+    public List<PeriodOccurrence> containing(LocalDate date) {
+        long day = date.toEpochDay();
+        List<PeriodOccurrence> result = new ArrayList<PeriodOccurrence>();
+        for (int i = firstStartingAfter(day) - 1; i >= 0 && starts[i] >= day - maxLength; i--) {
+            if (ends[i] >= day) {
+                result.add(periods[i]);
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Returns the periods starting or ending between two dates.
+     *
+     * @param from The first date to search, inclusive.
+     * @param to The last date to search, inclusive.
+     * @return the periods of the range whose first or last day is between the
+     * dates, ordered by their first day.
+     */
+    public List<PeriodOccurrence> startingOrEndingBetween(LocalDate from, LocalDate to) {
+        long a = from.toEpochDay();
+        long b = to.toEpochDay();
+        List<PeriodOccurrence> result = new ArrayList<PeriodOccurrence>();
+        for (int i = firstStartingAfter(a - maxLength - 1); i < starts.length && starts[i] <= b; i++) {
+            if (starts[i] >= a || ends[i] >= a && ends[i] <= b) {
+                result.add(periods[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the first period starting after a day.
+     */
+    private int firstStartingAfter(long day) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] > day) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
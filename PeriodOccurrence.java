@@ -0,0 +1,110 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+
+/**
+ * A liturgical period of a given year and the days it runs.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class PeriodOccurrence {
+
+    private final int year;
+    private final LiturgicalPeriod period;
+    private final int startEpochDay;
+    private final int endEpochDay;
+
+    PeriodOccurrence(int year, LiturgicalPeriod period, int startEpochDay, int endEpochDay) {
+        this.year = year;
+        this.period = period;
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = endEpochDay;
+    }
+
+    /**
+     * Returns the year the period was calculated for.
+     *
+     * @return the year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the period.
+     *
+     * @return the period.
+     */
+    public LiturgicalPeriod getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the first day of the period without constructing any date
+     * object.
+     *
+     * @return the number of days from 1970-01-01 to the first day.
+     */
+    public int getStartEpochDay() {
+        return startEpochDay;
+    }
+
+    /**
+     * Returns the last day of the period without constructing any date
+     * object.
+     *
+     * @return the number of days from 1970-01-01 to the last day.
+     */
+    public int getEndEpochDay() {
+        return endEpochDay;
+    }
+
+    /**
+     * Returns the first day of the period.
+     *
+     * @return a date representing the day.
+     */
+    public LocalDate getStart() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Returns the last day of the period, which belongs to the period.
+     *
+     * @return a date representing the day.
+     */
+    public LocalDate getEnd() {
+        return LocalDate.ofEpochDay(endEpochDay);
+    }
+
+    /**
+     * Tells whether a date is one of the days of the period.
+     *
+     * @param date The date to check.
+     * @return true if the date is between the first and last day, inclusive.
+     */
+    public boolean contains(LocalDate date) {
+        long day = date.toEpochDay();
+        return day >= startEpochDay && day <= endEpochDay;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof PeriodOccurrence)) {
+            return false;
+        }
+        PeriodOccurrence other = (PeriodOccurrence) obj;
+        return year == other.year && period == other.period
+                && startEpochDay == other.startEpochDay && endEpochDay == other.endEpochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((year * 31 + period.ordinal()) * 31 + startEpochDay) * 31 + endEpochDay;
+    }
+
+    @Override
+    public String toString() {
+        return period + " " + year + " " + getStart() + "/" + getEnd();
+    }
+}
@@ -0,0 +1,220 @@
+package javaapplication3;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Answers what today is in the Orthodox calendar. The answer is calculated
+ * once a day, when the service starts and then at every midnight of the
+ * clock's time zone, and kept in a snapshot, so every call is a single
+ * volatile read.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class TodayService implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(TodayService.class.getName());
+    private static final long RETRY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Clock clock;
+    private final long retryNanos;
+    private final ScheduledExecutorService executor;
+    private volatile Snapshot today;
+
+    /**
+     * Starts a service following the system clock in the default time zone.
+     */
+    public TodayService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Starts a service following a clock. The service runs a daemon thread
+     * until it is closed.
+     *
+     * @param clock The clock telling the date and time zone of today.
+     * @throws IllegalArgumentException if today's year is out of range, or
+     * the next Easter is after {@link EasterCalculator#MAX_YEAR}.
+     */
+    public TodayService(Clock clock) {
+        this(clock, RETRY_NANOS);
+    }
+
+    /**
+     * Starts a service that retries a failed snapshot after a given delay
+     * instead of a minute.
+     */
+    TodayService(Clock clock, long retryNanos) {
+        this.clock = clock;
+        this.retryNanos = retryNanos;
+        this.today = new Snapshot(LocalDate.now(clock));
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "TodayService");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        roll();
+    }
+
+    /**
+     * Calculates today's snapshot and schedules the next one for the
+     * following midnight. A wake-up before midnight just schedules again.
+     * If the snapshot cannot be calculated, the previous one is kept and
+     * the next try comes a minute later; the chain never stops before
+     * {@link #close()}.
+     */
+    private void roll() {
+        long delay = retryNanos;
+        try {
+            ZonedDateTime now = ZonedDateTime.now(clock);
+            LocalDate date = now.toLocalDate();
+            if (!today.date.equals(date)) {
+                today = new Snapshot(date);
+            }
+            delay = Duration.between(now, date.plusDays(1).atStartOfDay(now.getZone())).toNanos();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Keeping the snapshot of " + today.date, e);
+        } finally {
+            executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    roll();
+                }
+            }, Math.max(delay, TimeUnit.MILLISECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Returns today's snapshot.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot today() {
+        return today;
+    }
+
+    /**
+     * Returns today's date.
+     *
+     * @return the date.
+     */
+    public LocalDate getDate() {
+        return today.date;
+    }
+
+    /**
+     * Tells whether today is one of the holy days calculated by
+     * {@link EasterCalculator}.
+     *
+     * @return true if today is a holy day.
+     */
+    public boolean isHolyDay() {
+        return today.feasts != 0;
+    }
+
+    /**
+     * Returns the feasts falling today.
+     *
+     * @return a mask of {@link MovableFeast#mask()} bits, 0 if none.
+     */
+    public long getFeasts() {
+        return today.feasts;
+    }
+
+    /**
+     * Returns the days until the next Easter.
+     *
+     * @return the number of days, 0 on Easter day.
+     */
+    public int getDaysToEaster() {
+        return today.daysToEaster;
+    }
+
+    /**
+     * Stops rolling over to the next day. The last snapshot stays readable.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * What a day is in the Orthodox calendar.
+     */
+    public static final class Snapshot {
+
+        private final LocalDate date;
+        private final long feasts;
+        private final int daysToEaster;
+
+        /**
+         * Calculates the snapshot of a day.
+         *
+         * @throws IllegalArgumentException if the year is out of range, or
+         * the next Easter is after {@link EasterCalculator#MAX_YEAR}.
+         */
+        Snapshot(LocalDate date) {
+            int day = Math.toIntExact(date.toEpochDay());
+            int easter = OrthodoxFeasts.nextEpochDay(MovableFeast.EASTER, day - 1);
+            if (easter == OrthodoxFeasts.NONE) {
+                throw new IllegalArgumentException("No Easter after " + date + " until " + EasterCalculator.MAX_YEAR);
+            }
+            this.date = date;
+            this.feasts = HolyDays.feastsOn(date);
+            this.daysToEaster = easter - day;
+        }
+
+        /**
+         * Returns the date of the day.
+         *
+         * @return the date.
+         */
+        public LocalDate getDate() {
+            return date;
+        }
+
+        /**
+         * Tells whether the day is one of the holy days calculated by
+         * {@link EasterCalculator}.
+         *
+         * @return true if the day is a holy day.
+         */
+        public boolean isHolyDay() {
+            return feasts != 0;
+        }
+
+        /**
+         * Returns the feasts falling on the day.
+         *
+         * @return a mask of {@link MovableFeast#mask()} bits, 0 if none.
+         */
+        public long getFeasts() {
+            return feasts;
+        }
+
+        /**
+         * Returns the days from the day until the next Easter.
+         *
+         * @return the number of days, 0 on Easter day.
+         */
+        public int getDaysToEaster() {
+            return daysToEaster;
+        }
+
+        @Override
+        public String toString() {
+            return date + " " + MovableFeast.setOf(feasts) + " " + daysToEaster;
+        }
+    }
+}
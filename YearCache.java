@@ -0,0 +1,135 @@
+package javaapplication3;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * A bounded cache of values calculated per year. Lookups of cached years take
+ * no lock; when the cache is full a new year replaces one that has not been
+ * looked up since the clock hand last passed over it.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+final class YearCache<V> {
+
+    private static final class Entry<V> {
+
+        final int year;
+        final V value;
+        volatile boolean referenced;
+
+        Entry(int year, V value) {
+            this.year = year;
+            this.value = value;
+        }
+    }
+
+    private final IntFunction<V> loader;
+    // Open addressing by year with linear probing, at most half full, so the
+    // key is never boxed. It is only written under the clock's lock; a lookup
+    // racing with an eviction may miss a cached year and calculate it again,
+    // but the year of an entry is final, so it never gets another year's value.
+    private final Entry<?>[] slots;
+    private final int mask;
+    private final Entry<?>[] clock;
+    private int hand;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    YearCache(int capacity, IntFunction<V> loader) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.loader = loader;
+        this.slots = new Entry<?>[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        this.mask = slots.length - 1;
+        this.clock = new Entry<?>[capacity];
+    }
+
+    /**
+     * Returns the value of a year, calculating it if it is not cached.
+     */
+    V get(int year) {
+        Entry<V> entry = find(year);
+        if (entry != null) {
+            entry.referenced = true;
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = loader.apply(year);
+        synchronized (clock) {
+            entry = find(year);
+            if (entry != null) {
+                entry.referenced = true;
+                return entry.value;
+            }
+
+            Entry<?> victim = clock[hand];
+            while (victim != null && victim.referenced) {
+                victim.referenced = false;
+                hand = (hand + 1) % clock.length;
+                victim = clock[hand];
+            }
+            if (victim != null) {
+                remove(victim.year);
+            }
+
+            entry = new Entry<V>(year, value);
+            clock[hand] = entry;
+            hand = (hand + 1) % clock.length;
+            int i = slot(year);
+            while (slots[i] != null) {
+                i = (i + 1) & mask;
+            }
+            slots[i] = entry;
+        }
+        return value;
+    }
+
+    private int slot(int year) {
+        int h = year * 0x9E3779B9;
+        return (h ^ h >>> 16) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<V> find(int year) {
+        int i = slot(year);
+        for (int n = 0; n < slots.length; n++) {
+            Entry<V> entry = (Entry<V>) slots[i];
+            if (entry == null || entry.year == year) {
+                return entry;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Removes a cached year, moving back the entries after it that would no
+     * longer be found past the emptied slot.
+     */
+    private void remove(int year) {
+        int i = slot(year);
+        while (slots[i].year != year) {
+            i = (i + 1) & mask;
+        }
+        for (int j = (i + 1) & mask; slots[j] != null; j = (j + 1) & mask) {
+            int home = slot(slots[j].year);
+            if (i < j ? home <= i || home > j : home <= i && home > j) {
+                slots[i] = slots[j];
+                i = j;
+            }
+        }
+        slots[i] = null;
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+}
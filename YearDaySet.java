@@ -0,0 +1,220 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable set of days of a single year, held as a 366-bit bitmap in six
+ * longs. Membership is one shift-and-mask.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class YearDaySet {
+
+    private static final int WORDS = 6;
+
+    // Sets of the years in the precomputed Easter table, shared by the
+    // built-in holiday profiles. Only a fixed number of profiles intern, so
+    // the pool stays bounded.
+    private static final ConcurrentMap<YearDaySet, YearDaySet> POOL
+            = new ConcurrentHashMap<YearDaySet, YearDaySet>();
+
+    private final int year;
+    private final int firstDay;
+    private final long[] bits;
+
+    private YearDaySet(int year, long[] bits) {
+        this.year = year;
+        this.firstDay = OrthodoxComputus.epochDay(year, 1, 1);
+        this.bits = bits;
+    }
+
+    /**
+     * Collects the given days that fall within a year; the others are ignored.
+     */
+    static YearDaySet of(int year, int[] epochDays, int from, int to) {
+        int firstDay = OrthodoxComputus.epochDay(year, 1, 1);
+        int length = OrthodoxComputus.epochDay(year + 1, 1, 1) - firstDay;
+        long[] bits = new long[WORDS];
+        for (int i = from; i < to; i++) {
+            int day = epochDays[i] - firstDay;
+            if (day >= 0 && day < length) {
+                bits[day >>> 6] |= 1L << day;
+            }
+        }
+        return new YearDaySet(year, bits);
+    }
+
+    /**
+     * Returns the shared set equal to a set, if its year is in the precomputed
+     * Easter table; otherwise the set itself.
+     */
+    static YearDaySet intern(YearDaySet set) {
+        if (!EasterTable.contains(set.year)) {
+            return set;
+        }
+        YearDaySet shared = POOL.putIfAbsent(set, set);
+        return shared == null ? set : shared;
+    }
+
+    /**
+     * Returns the year of the set.
+     *
+     * @return the year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Tells whether a day of the year is in the set.
+     *
+     * @param dayOfYear The day of the year, from 1 to 366.
+     * @return true if the day is in the set.
+     */
+    public boolean contains(int dayOfYear) {
+        int day = dayOfYear - 1;
+        return day >= 0 && day < 366 && (bits[day >>> 6] >>> day & 1) != 0;
+    }
+
+    /**
+     * Tells whether a day is in the set.
+     *
+     * @param epochDay The number of days from 1970-01-01 to the day.
+     * @return true if the day is in the set.
+     */
+    public boolean containsEpochDay(int epochDay) {
+        int day = epochDay - firstDay;
+        return day >= 0 && day < 366 && (bits[day >>> 6] >>> day & 1) != 0;
+    }
+
+    /**
+     * Tells whether a date is in the set.
+     *
+     * @param date The date to look up.
+     * @return true if the date is in the set.
+     */
+    public boolean contains(LocalDate date) {
+        return date.getYear() == year && contains(date.getDayOfYear());
+    }
+
+    /**
+     * Returns the days in either set.
+     *
+     * @param other A set of the same year.
+     * @return a new set of the days in this set or the other.
+     */
+    public YearDaySet union(YearDaySet other) {
+        checkYear(other);
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = bits[i] | other.bits[i];
+        }
+        return new YearDaySet(year, result);
+    }
+
+    /**
+     * Returns the days in both sets.
+     *
+     * @param other A set of the same year.
+     * @return a new set of the days in this set and the other.
+     */
+    public YearDaySet intersection(YearDaySet other) {
+        checkYear(other);
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = bits[i] & other.bits[i];
+        }
+        return new YearDaySet(year, result);
+    }
+
+    private void checkYear(YearDaySet other) {
+        if (other.year != year) {
+            throw new IllegalArgumentException("Sets of " + year + " and " + other.year);
+        }
+    }
+
+    /**
+     * Returns the subset of the days falling from Monday to Friday.
+     */
+    YearDaySet weekdays() {
+        long[] result = bits.clone();
+        int firstDayOfWeek = OrthodoxComputus.dayOfWeek(firstDay);
+        for (int weekend = 6; weekend <= 7; weekend++) {
+            for (int day = Math.floorMod(weekend - firstDayOfWeek, 7); day < 366; day += 7) {
+                result[day >>> 6] &= ~(1L << day);
+            }
+        }
+        return new YearDaySet(year, result);
+    }
+
+    /**
+     * Returns the first zero-based day of the year in the set from a day on,
+     * or -1 if there is none.
+     */
+    int next(int day) {
+        int word = day >>> 6;
+        if (word >= WORDS) {
+            return -1;
+        }
+        long w = bits[word] & -1L << day;
+        while (w == 0) {
+            if (++word == WORDS) {
+                return -1;
+            }
+            w = bits[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(w);
+    }
+
+    /**
+     * Returns the number of days in the set before a zero-based day of the
+     * year, which is the position of that day among the days of the set.
+     */
+    int rank(int day) {
+        int word = day >>> 6;
+        int rank = 0;
+        for (int i = 0; i < word; i++) {
+            rank += Long.bitCount(bits[i]);
+        }
+        return rank + Long.bitCount(bits[word] & (1L << day) - 1);
+    }
+
+    /**
+     * Returns the zero-based day of the year of an epoch day, or -1 if it is
+     * not a day of the set.
+     */
+    int indexOf(int epochDay) {
+        int day = epochDay - firstDay;
+        return day >= 0 && day < 366 && (bits[day >>> 6] >>> day & 1) != 0 ? day : -1;
+    }
+
+    /**
+     * Returns the number of days in the set.
+     *
+     * @return the number of days.
+     */
+    public int size() {
+        int size = 0;
+        for (long word : bits) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof YearDaySet)) {
+            return false;
+        }
+        YearDaySet other = (YearDaySet) obj;
+        return year == other.year && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return year * 31 + Arrays.hashCode(bits);
+    }
+}
@@ -0,0 +1,49 @@
+package javaapplication3;
+
+import java.util.function.IntFunction;
+
+/**
+ * Values calculated once per year. Years in the precomputed Easter table are
+ * kept in a flat array; others go through a bounded {@link YearCache}. The
+ * values must be immutable, so a racy fill of the array at worst calculates
+ * a year twice.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+final class YearTable<V> {
+
+    private final IntFunction<V> loader;
+    private final Object[] table = new Object[EasterTable.LAST_YEAR - EasterTable.FIRST_YEAR + 1];
+    private final YearCache<V> cache;
+
+    YearTable(int cacheCapacity, IntFunction<V> loader) {
+        this.loader = loader;
+        this.cache = new YearCache<V>(cacheCapacity, loader);
+    }
+
+    /**
+     * Returns the value of a year, calculating it on first use.
+     */
+    @SuppressWarnings("unchecked")
+    V get(int year) {
+        OrthodoxComputus.checkYear(year);
+        if (!EasterTable.contains(year)) {
+            return cache.get(year);
+        }
+        int i = year - EasterTable.FIRST_YEAR;
+        V value = (V) table[i];
+        if (value == null) {
+            value = loader.apply(year);
+            table[i] = value;
+        }
+        return value;
+    }
+
+    long cacheHitCount() {
+        return cache.hitCount();
+    }
+
+    long cacheMissCount() {
+        return cache.missCount();
+    }
+}
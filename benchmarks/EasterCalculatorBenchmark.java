@@ -0,0 +1,192 @@
+package javaapplication3.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import javaapplication3.EasterCalculator;
+import javaapplication3.MovableFeast;
+import javaapplication3.OrthodoxComputus;
+import javaapplication3.OrthodoxYear;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of a single year: constructing a calculator, and reading
+ * each feast through the Calendar getters, the primitive computus and the
+ * {@link LocalDate} API. Years inside and outside the precomputed table are
+ * both covered.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EasterCalculatorBenchmark {
+
+    /**
+     * The year alone, for the benchmarks that calculate a whole year.
+     */
+    @State(Scope.Thread)
+    public static class YearState {
+
+        @Param({"2025", "12025"})
+        int year;
+    }
+
+    /**
+     * A year and one of its feasts, for the benchmarks that read a feast.
+     */
+    @State(Scope.Thread)
+    public static class FeastState {
+
+        @Param({"2025", "12025"})
+        int year;
+
+        // A bare @Param runs every constant of the enum.
+        @Param
+        MovableFeast feast;
+
+        EasterCalculator calculator;
+        OrthodoxYear orthodoxYear;
+
+        @Setup
+        public void setUp() {
+            calculator = new EasterCalculator(year);
+            orthodoxYear = OrthodoxYear.of(year);
+        }
+    }
+
+    @Benchmark
+    public EasterCalculator construct(YearState s) {
+        return new EasterCalculator(s.year);
+    }
+
+    @Benchmark
+    public EasterCalculator cached(YearState s) {
+        return EasterCalculator.of(s.year);
+    }
+
+    @Benchmark
+    public OrthodoxYear constructOrthodoxYear(YearState s) {
+        return OrthodoxYear.of(s.year);
+    }
+
+    @Benchmark
+    public Calendar calendarGetter(FeastState s) {
+        return getter(s.calculator, s.feast);
+    }
+
+    @Benchmark
+    public Calendar constructAndGetCalendar(FeastState s) {
+        return getter(new EasterCalculator(s.year), s.feast);
+    }
+
+    @Benchmark
+    public int primitive(FeastState s) {
+        return OrthodoxComputus.epochDayOf(s.feast, s.year);
+    }
+
+    @Benchmark
+    public LocalDate localDate(FeastState s) {
+        return s.calculator.getDate(s.feast);
+    }
+
+    @Benchmark
+    public LocalDate orthodoxYear(FeastState s) {
+        return s.orthodoxYear.get(s.feast);
+    }
+
+    static Calendar getter(EasterCalculator c, MovableFeast feast) {
+        switch (feast) {
+            case EASTER:
+                return c.getEaster();
+            case SUNDAY_OF_THE_FOREFATHERS:
+                return c.getSundayOfTheForefathers();
+            case SAINT_GEORGE:
+                return c.getSaintGeorgeDay();
+            case MARK_THE_EVANGELIST:
+                return c.getMarkTheEvangelistDay();
+            case SAINT_CLOE:
+                return c.getSaintCloeDay();
+            case PUBLICAN:
+                return c.getPublicanDay();
+            case PRODIGAL:
+                return c.getProdigal();
+            case ALL_SOULS_A:
+                return c.getAllSoulsDayA();
+            case ALL_SOULS_B:
+                return c.getAllSoulsDayB();
+            case CARNIVAL:
+                return c.getCarnivalDay();
+            case SHROVE_MONDAY:
+                return c.getShroveMonday();
+            case SHROVE_THURSDAY:
+                return c.getShroveThursday();
+            case CHEESE_SUNDAY:
+                return c.getCheeseSunday();
+            case GREGORY_PALAMAS:
+                return c.getGregoryPalamasDay();
+            case SAINT_THEODORE:
+                return c.getSaintTheodoreDay();
+            case SUNDAY_OF_ORTHODOXY:
+                return c.getSundayOfOrthodoxy();
+            case LAZARUS:
+                return c.getLazarusDay();
+            case PALM_SUNDAY:
+                return c.getPalmSunday();
+            case HOLY_MONDAY:
+                return c.getHolyMonday();
+            case HOLY_TUESDAY:
+                return c.getHolyTuesday();
+            case HOLY_WEDNESDAY:
+                return c.getHolyWednesday();
+            case HOLY_THURSDAY:
+                return c.getHolyThursday();
+            case HOLY_FRIDAY:
+                return c.getHolyFriday();
+            case HOLY_SATURDAY:
+                return c.getHolySaturday();
+            case EASTER_MONDAY:
+                return c.getEasterMonday();
+            case EASTER_TUESDAY:
+                return c.getEasterTuesday();
+            case EASTER_WEDNESDAY:
+                return c.getEasterWednesday();
+            case EASTER_THURSDAY:
+                return c.getEasterThursday();
+            case EASTER_FRIDAY:
+                return c.getEasterFriday();
+            case EASTER_SATURDAY:
+                return c.getEasterSaturday();
+            case LIFE_GIVING_SPRING:
+                return c.getLifeGivingSpringDay();
+            case THOMAS_SUNDAY:
+                return c.getThomasSunday();
+            case MYRRHBEARERS:
+                return c.getMyrrhbearersDay();
+            case PARALYTIC:
+                return c.getParalyticDay();
+            case ASCENSION:
+                return c.getAscensionDay();
+            case PENTECOST:
+                return c.getPentecostDay();
+            case ALL_SAINTS:
+                return c.getAllSaintsDay();
+            case HOLY_SPIRIT:
+                return c.getHolySpiritDay();
+            default:
+                throw new AssertionError(feast);
+        }
+    }
+}
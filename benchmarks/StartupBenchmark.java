@@ -0,0 +1,104 @@
+package javaapplication3.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javaapplication3.EasterCalculator;
+import javaapplication3.OrthodoxComputus;
+
+/**
+ * Measures the cold start of the calendar-free and the Calendar paths. Every
+ * run forks a fresh JVM with class loading logged, and reports the time from
+ * launch to the first result, the time spent inside the probe, and how many
+ * classes were loaded, including calendar and time zone classes.
+ * <p>
+ * Usage: {@code java -cp <classpath> javaapplication3.benchmarks.StartupBenchmark [runs]}
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public final class StartupBenchmark {
+
+    private static final String PROBE = "probe";
+    private static final String[] PATHS = {"computus", "calendar"};
+    private static final int YEAR = 2025;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 2 && PROBE.equals(args[0])) {
+            probe(args[1]);
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        for (String path : PATHS) {
+            measure(path, runs);
+        }
+    }
+
+    private static void probe(String path) {
+        long start = System.nanoTime();
+        long result;
+        if ("computus".equals(path)) {
+            result = OrthodoxComputus.easterEpochDay(YEAR);
+        } else {
+            result = new EasterCalculator(YEAR).getEaster().getTimeInMillis();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.println(PROBE + " " + result + " " + elapsed);
+    }
+
+    private static void measure(String path, int runs) throws IOException, InterruptedException {
+        long[] launch = new long[runs];
+        long[] inside = new long[runs];
+        int classes = 0;
+        int calendarClasses = 0;
+
+        for (int i = 0; i < runs; i++) {
+            List<String> command = new ArrayList<String>();
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            command.add("-verbose:class");
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(StartupBenchmark.class.getName());
+            command.add(PROBE);
+            command.add(path);
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+            classes = 0;
+            calendarClasses = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(PROBE + " ")) {
+                    launch[i] = System.nanoTime() - start;
+                    inside[i] = Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+                } else if (line.startsWith("[Loaded ") || line.contains("[class,load]")) {
+                    classes++;
+                    if (line.contains("java.util.Calendar") || line.contains("java.util.GregorianCalendar")
+                            || line.contains("java.util.TimeZone") || line.contains("sun.util.calendar.")) {
+                        calendarClasses++;
+                    }
+                }
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("Probe of " + path + " failed");
+            }
+        }
+
+        System.out.printf("%-9s launch to result %8.2f ms, in probe %8.3f ms, %d classes loaded (%d calendar/time zone)%n",
+                path, median(launch) / 1e6, median(inside) / 1e6, classes, calendarClasses);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
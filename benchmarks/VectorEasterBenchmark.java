@@ -0,0 +1,63 @@
+package javaapplication3.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javaapplication3.OrthodoxComputus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and the vector kernel of
+ * {@link OrthodoxComputus#computeEasterRange(int, int, int[])} over 100,000
+ * years. The vector fork needs Java 17 or later and fails in its setup if
+ * the vector kernel is not in use. Scores are per year.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(VectorEasterBenchmark.YEARS)
+public class VectorEasterBenchmark {
+
+    static final int FIRST_YEAR = 1583;
+    static final int YEARS = 100000;
+
+    private final int[] out = new int[YEARS];
+
+    /**
+     * Makes the vector fork fail instead of measuring the scalar kernel.
+     */
+    @State(Scope.Benchmark)
+    public static class VectorKernel {
+
+        @Setup
+        public void check() {
+            if (!OrthodoxComputus.isVectorKernelEnabled()) {
+                throw new IllegalStateException("The vector kernel is not in use");
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int[] scalar() {
+        return OrthodoxComputus.computeEasterRange(FIRST_YEAR, FIRST_YEAR + YEARS - 1, out);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Djavaapplication3.vector=true"})
+    public int[] vector(VectorKernel kernel) {
+        return OrthodoxComputus.computeEasterRange(FIRST_YEAR, FIRST_YEAR + YEARS - 1, out);
+    }
+}
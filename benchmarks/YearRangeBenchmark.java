@@ -0,0 +1,111 @@
+package javaapplication3.benchmarks;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import javaapplication3.EasterCalculator;
+import javaapplication3.MovableFeast;
+import javaapplication3.OrthodoxComputus;
+import javaapplication3.PaschalCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of computing every year from 1583 to 9999, once for
+ * Easter alone and once for every feast, through the Calendar API and through
+ * the primitive computus. Scores are per year.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(YearRangeBenchmark.YEARS)
+public class YearRangeBenchmark {
+
+    static final int FIRST_YEAR = 1583;
+    static final int LAST_YEAR = 9999;
+    static final int YEARS = LAST_YEAR - FIRST_YEAR + 1;
+
+    private final int[] feasts = new int[MovableFeast.values().length];
+    private final int[] easterRange = new int[YEARS];
+    private final int[] feastRange = new int[YEARS * OrthodoxComputus.FEAST_COUNT];
+
+    @Benchmark
+    public void easterCalendar(Blackhole bh) {
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            bh.consume(new EasterCalculator(year).getEaster());
+        }
+    }
+
+    @Benchmark
+    public void easterPrimitive(Blackhole bh) {
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            bh.consume(OrthodoxComputus.easterEpochDay(year));
+        }
+    }
+
+    @Benchmark
+    public int[] easterRange() {
+        return OrthodoxComputus.computeEasterRange(FIRST_YEAR, LAST_YEAR, easterRange);
+    }
+
+    @Benchmark
+    public void easterCursor(Blackhole bh) {
+        PaschalCursor cursor = new PaschalCursor(FIRST_YEAR);
+        for (int year = FIRST_YEAR; year < LAST_YEAR; year++) {
+            bh.consume(cursor.getEasterEpochDay());
+            cursor.advance();
+        }
+        bh.consume(cursor.getEasterEpochDay());
+    }
+
+    @Benchmark
+    public void allFeastsCalendar(Blackhole bh) {
+        MovableFeast[] values = MovableFeast.values();
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            EasterCalculator calculator = new EasterCalculator(year);
+            for (MovableFeast feast : values) {
+                Calendar c = EasterCalculatorBenchmark.getter(calculator, feast);
+                bh.consume(c);
+            }
+        }
+    }
+
+    @Benchmark
+    public void allFeastsPrimitive(Blackhole bh) {
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            bh.consume(OrthodoxComputus.allFeasts(year, feasts));
+        }
+    }
+
+    @Benchmark
+    public int[] allFeastsRange() {
+        return OrthodoxComputus.computeFeastRange(FIRST_YEAR, LAST_YEAR, feastRange);
+    }
+
+    @Benchmark
+    public void allFeastsCursor(Blackhole bh) {
+        MovableFeast[] values = MovableFeast.values();
+        PaschalCursor cursor = new PaschalCursor(FIRST_YEAR);
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            for (MovableFeast feast : values) {
+                bh.consume(cursor.getEpochDay(feast));
+            }
+            if (year < LAST_YEAR) {
+                cursor.advance();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Checks the business-day arithmetic against a walk over the days.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class BusinessDaysTest {
+
+    private static final HolidayProfile[] PROFILES = {
+        HolidayProfile.GREECE, HolidayProfile.SERBIA, HolidayProfile.FINLAND
+    };
+
+    private static boolean isBusinessDay(LocalDate date, HolidayProfile profile) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !profile.isHoliday(date);
+    }
+
+    @Test
+    public void everyDayOfTheTableYears() {
+        for (HolidayProfile profile : PROFILES) {
+            LocalDate date = LocalDate.of(1583, 1, 1);
+            LocalDate end = LocalDate.of(10000, 1, 1);
+            for (; date.isBefore(end); date = date.plusDays(1)) {
+                assertEquals(profile + " " + date, isBusinessDay(date, profile),
+                        BusinessDays.isBusinessDay(date, profile));
+            }
+        }
+    }
+
+    @Test
+    public void addBusinessDaysMatchesWalk() {
+        Random random = new Random(1);
+        for (HolidayProfile profile : PROFILES) {
+            for (int t = 0; t < 20000; t++) {
+                LocalDate date = randomDate(random);
+                int n = random.nextInt(121) - 60;
+                LocalDate expected = date;
+                for (int left = Math.abs(n); left > 0; ) {
+                    expected = expected.plusDays(n > 0 ? 1 : -1);
+                    if (isBusinessDay(expected, profile)) {
+                        left--;
+                    }
+                }
+                assertEquals(profile + " " + date + " " + n, expected,
+                        BusinessDays.addBusinessDays(date, n, profile));
+            }
+        }
+    }
+
+    @Test
+    public void businessDaysBetweenMatchesWalk() {
+        Random random = new Random(2);
+        for (HolidayProfile profile : PROFILES) {
+            for (int t = 0; t < 5000; t++) {
+                LocalDate from = randomDate(random);
+                LocalDate to = from.plusDays(random.nextInt(1601) - 800);
+                int expected = 0;
+                for (LocalDate d = from; d.isBefore(to); d = d.plusDays(1)) {
+                    expected += isBusinessDay(d, profile) ? 1 : 0;
+                }
+                for (LocalDate d = to; d.isBefore(from); d = d.plusDays(1)) {
+                    expected -= isBusinessDay(d, profile) ? 1 : 0;
+                }
+                assertEquals(profile + " " + from + " " + to, expected,
+                        BusinessDays.businessDaysBetween(from, to, profile));
+            }
+        }
+    }
+
+    private static LocalDate randomDate(Random random) {
+        return LocalDate.of(1586 + random.nextInt(8410), 1, 1).plusDays(random.nextInt(365));
+    }
+}
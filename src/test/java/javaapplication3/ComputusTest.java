@@ -0,0 +1,72 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import org.junit.Test;
+
+/**
+ * Checks the Easter computus against {@link EasterOracle} and known dates.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class ComputusTest {
+
+    private static final int FIRST_YEAR = 1583;
+    private static final int LAST_YEAR = EasterCalculator.MAX_YEAR;
+
+    @Test
+    public void knownEasterDates() {
+        assertEaster(LocalDate.of(2024, 5, 5));
+        assertEaster(LocalDate.of(2025, 4, 20));
+        assertEaster(LocalDate.of(2026, 4, 12));
+    }
+
+    private static void assertEaster(LocalDate easter) {
+        int year = easter.getYear();
+        assertEquals(easter.toEpochDay(), EasterCalculator.easterEpochDay(year));
+        assertEquals(easter.toEpochDay(), EasterOracle.toEpochDay(new EasterCalculator(year).getEaster()));
+        assertEquals(easter.toEpochDay(), EasterOracle.baselineEasterEpochDay(year));
+        assertEquals(easter.toEpochDay(), EasterOracle.easterEpochDay(year));
+    }
+
+    @Test
+    public void oraclesAgree() {
+        for (int year = FIRST_YEAR; year <= EasterOracle.LAST_BASELINE_YEAR; year++) {
+            assertEquals("Easter " + year, EasterOracle.baselineEasterEpochDay(year), EasterOracle.easterEpochDay(year));
+        }
+    }
+
+    @Test
+    public void easterEpochDayMatchesBaseline() {
+        for (int year = FIRST_YEAR; year <= EasterOracle.LAST_BASELINE_YEAR; year++) {
+            assertEquals("Easter " + year, EasterOracle.baselineEasterEpochDay(year), EasterCalculator.easterEpochDay(year));
+            assertEquals("Easter " + year, EasterOracle.baselineEasterEpochDay(year),
+                    EasterOracle.toEpochDay(new EasterCalculator(year).getEaster()));
+        }
+    }
+
+    @Test
+    public void easterEpochDayMatchesJulianAlgorithm() {
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            assertEquals("Easter " + year, EasterOracle.easterEpochDay(year), EasterCalculator.easterEpochDay(year));
+        }
+    }
+
+    @Test
+    public void easterTableMatchesJulianAlgorithm() {
+        for (int year = EasterTable.FIRST_YEAR; year <= EasterTable.LAST_YEAR; year++) {
+            assertEquals("Easter " + year, EasterOracle.julianEaster(year), EasterTable.lookup(year));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsYearsBeforeTheGregorianCalendar() {
+        EasterCalculator.easterEpochDay(1582);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsYearsAfterMaxYear() {
+        EasterCalculator.easterEpochDay(LAST_YEAR + 1);
+    }
+}
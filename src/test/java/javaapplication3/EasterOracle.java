@@ -0,0 +1,110 @@
+package javaapplication3;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+/**
+ * Easter calculated without the library: the original
+ * {@code GregorianCalendar} arithmetic of the calculator, Meeus' Julian
+ * algorithm with the Julian date converted through the Julian day number,
+ * and Gauss' algorithm for the Western Easter.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+final class EasterOracle {
+
+    /**
+     * The last year the original arithmetic is right for.
+     */
+    static final int LAST_BASELINE_YEAR = 5242;
+
+    private static final long EPOCH_JULIAN_DAY = 2440588;
+
+    private EasterOracle() {
+    }
+
+    /**
+     * Returns Julian Easter as the number of days after the 22nd of March of
+     * the Julian calendar, by Meeus' Julian algorithm.
+     */
+    static int julianEaster(long year) {
+        int a = (int) (year % 4);
+        int b = (int) (year % 7);
+        int c = (int) (year % 19);
+        int d = (19 * c + 15) % 30;
+        int e = (2 * a + 4 * b - d + 34) % 7;
+        return d + e;
+    }
+
+    /**
+     * Returns Easter day as the number of days from 1970-01-01, converting
+     * the Julian calendar date to a Julian day number.
+     */
+    static long easterEpochDay(long year) {
+        int days = julianEaster(year) + 22;
+        return julianEpochDay(year, days > 31 ? 4 : 3, days > 31 ? days - 31 : days);
+    }
+
+    /**
+     * Returns a date of the Julian calendar as the number of days from
+     * 1970-01-01, through the Julian day number.
+     */
+    static long julianEpochDay(long year, int month, int day) {
+        long a = (14 - month) / 12;
+        long y = year + 4800 - a;
+        long m = month + 12 * a - 3;
+        long julianDay = day + (153 * m + 2) / 5 + 365 * y + y / 4 - 32083;
+        return julianDay - EPOCH_JULIAN_DAY;
+    }
+
+    /**
+     * Returns the Western Easter as a date, by Gauss' algorithm.
+     */
+    static LocalDate westernEaster(int year) {
+        int a = year % 19;
+        int b = year % 4;
+        int c = year % 7;
+        int k = year / 100;
+        int p = (13 + 8 * k) / 25;
+        int q = k / 4;
+        int m = (15 - p + k - q) % 30;
+        int n = (4 + k - q) % 7;
+        int d = (19 * a + m) % 30;
+        int e = (2 * b + 4 * c + 6 * d + n) % 7;
+        if (d == 29 && e == 6) {
+            return LocalDate.of(year, 4, 19);
+        }
+        if (d == 28 && e == 6 && (11 * m + 11) % 30 < 19) {
+            return LocalDate.of(year, 4, 18);
+        }
+        return LocalDate.of(year, 3, 22).plusDays(d + e);
+    }
+
+    /**
+     * Returns Easter day as the number of days from 1970-01-01, as the
+     * calculator worked it out before the epoch-day computus.
+     */
+    static int baselineEasterEpochDay(int year) {
+        int e = 10;
+
+        if (year > 1600) {
+            int y2 = (int) Math.floor(year / 100);
+            e = 10 + y2 - 16 - (int) Math.floor((y2 - 16) / 4);
+        }
+
+        int G = year % 19;
+        int I = (19 * G + 15) % 30;
+        int J = (year + (int) Math.floor(year / 4) + I) % 7;
+        int L = I - J;
+        int p = L + e;
+        int d = 1 + (p + 27 + (int) Math.floor((p + 6) / 40)) % 31;
+        int m = 3 + (int) Math.floor((p + 26) / 30) - 1;
+        return toEpochDay(new GregorianCalendar(year, m, d));
+    }
+
+    static int toEpochDay(Calendar calendar) {
+        return (int) LocalDate.of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH)).toEpochDay();
+    }
+}
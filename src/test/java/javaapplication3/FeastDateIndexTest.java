@@ -0,0 +1,55 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Checks {@link FeastDateIndex} against a scan of the feast columns.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class FeastDateIndexTest {
+
+    @Test
+    public void indexMatchesScan() {
+        FeastMatrix matrix = FeastMatrix.build(EasterTable.FIRST_YEAR, EasterTable.LAST_YEAR);
+        FeastDateIndex index = new FeastDateIndex(matrix);
+        for (MovableFeast feast : MovableFeast.values()) {
+            int[] column = matrix.columnArray(feast);
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 1; day <= 31; day++) {
+                    List<Integer> on = new ArrayList<Integer>();
+                    List<Integer> notOn = new ArrayList<Integer>();
+                    for (int i = 0; i < column.length; i++) {
+                        int date = OrthodoxComputus.civilDate(column[i]);
+                        boolean match = (date >>> 5 & 15) == month && (date & 31) == day;
+                        (match ? on : notOn).add(EasterTable.FIRST_YEAR + i);
+                    }
+                    String key = feast + " " + month + "-" + day;
+                    assertArrayEquals(key, toArray(on), index.yearsOn(feast, month, day));
+                    assertArrayEquals(key, toArray(notOn), index.yearsNotOn(feast, month, day));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void publicLookupMatchesIndex() {
+        FeastDateIndex index = new FeastDateIndex(FeastMatrix.build(EasterTable.FIRST_YEAR, EasterTable.LAST_YEAR));
+        assertArrayEquals(index.yearsOn(MovableFeast.EASTER, 4, 12), OrthodoxFeasts.yearsOn(MovableFeast.EASTER, 4, 12));
+        assertArrayEquals(index.yearsNotOn(MovableFeast.EASTER, 4, 12),
+                OrthodoxFeasts.yearsNotOn(MovableFeast.EASTER, MonthDay.of(4, 12)));
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,50 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.IntBuffer;
+import org.junit.Test;
+
+/**
+ * Checks {@link FeastMatrix} against {@link OrthodoxComputus#allFeasts}
+ * year by year.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class FeastMatrixTest {
+
+    @Test
+    public void matrixMatchesAllFeasts() {
+        FeastMatrix matrix = FeastMatrix.build(1583, 30000);
+        int[] feasts = new int[OrthodoxComputus.FEAST_COUNT];
+        for (int year = 1583; year <= 30000; year++) {
+            OrthodoxComputus.allFeasts(year, feasts);
+            for (MovableFeast feast : MovableFeast.values()) {
+                assertEquals(feast + " " + year, feasts[feast.ordinal()], matrix.get(feast, year));
+            }
+        }
+    }
+
+    @Test
+    public void columnsMatchGet() {
+        FeastMatrix matrix = FeastMatrix.build(1999, 2100);
+        for (MovableFeast feast : MovableFeast.values()) {
+            IntBuffer column = matrix.column(feast);
+            assertEquals(102, column.remaining());
+            for (int year = 1999; year <= 2100; year++) {
+                assertEquals(feast + " " + year, matrix.get(feast, year), column.get(year - 1999));
+            }
+        }
+    }
+
+    @Test
+    public void singleYear() {
+        FeastMatrix matrix = FeastMatrix.build(2026, 2026);
+        assertEquals(EasterCalculator.easterEpochDay(2026), matrix.get(MovableFeast.EASTER, 2026));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsReversedRanges() {
+        FeastMatrix.build(2026, 2025);
+    }
+}
@@ -0,0 +1,97 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Checks the rules of {@link HolidayProfile} against dates worked out with
+ * {@code java.time}.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class HolidayProfileTest {
+
+    @Test
+    public void feastsOfEveryYearThatFallInTheYear() {
+        HolidayProfile profile = HolidayProfile.of("feasts",
+                EnumSet.of(MovableFeast.PUBLICAN, MovableFeast.EASTER, MovableFeast.ALL_SAINTS));
+        checkFeasts(profile, 1583, 2200);
+        checkFeasts(profile, 26200, 26220);
+        checkFeasts(profile, EasterCalculator.MAX_YEAR - 30, EasterCalculator.MAX_YEAR);
+    }
+
+    private static void checkFeasts(HolidayProfile profile, int fromYear, int toYear) {
+        Map<Integer, Long> feasts = HolyDaysTest.feastsByDay(fromYear - 25, toYear);
+        long mask = MovableFeast.PUBLICAN.mask() | MovableFeast.EASTER.mask() | MovableFeast.ALL_SAINTS.mask();
+        for (LocalDate date = LocalDate.of(fromYear, 1, 1); date.getYear() <= toYear; date = date.plusDays(1)) {
+            Long on = feasts.get((int) date.toEpochDay());
+            assertEquals(date.toString(), on != null && (on & mask) != 0, profile.isHoliday(date));
+        }
+    }
+
+    @Test
+    public void julianDatesMatchJulianDayNumbers() {
+        HolidayProfile profile = HolidayProfile.builder("julian").julian(12, 25).julian(1, 1).julian(2, 29).build();
+        assertTrue(profile.isHoliday(LocalDate.of(2026, 1, 7)));
+        assertTrue(HolidayProfile.SERBIA.isHoliday(LocalDate.of(2026, 1, 7)));
+        checkJulian(profile, 1583, 2200);
+        // Where the Julian calendar falls more than a year behind.
+        checkJulian(profile, 48800, 49300);
+        checkJulian(profile, EasterCalculator.MAX_YEAR - 30, EasterCalculator.MAX_YEAR);
+    }
+
+    private static void checkJulian(HolidayProfile profile, int fromYear, int toYear) {
+        Set<Long> days = new HashSet<Long>();
+        for (int y = fromYear - 30; y <= toYear; y++) {
+            days.add(EasterOracle.julianEpochDay(y, 12, 25));
+            days.add(EasterOracle.julianEpochDay(y, 1, 1));
+            if (y % 4 == 0) {
+                days.add(EasterOracle.julianEpochDay(y, 2, 29));
+            }
+        }
+        for (LocalDate date = LocalDate.of(fromYear, 1, 1); date.getYear() <= toYear; date = date.plusDays(1)) {
+            assertEquals(date.toString(), days.contains(date.toEpochDay()), profile.isHoliday(date));
+        }
+    }
+
+    @Test
+    public void finlandMatchesWalk() {
+        checkFinland(1583, 9999);
+        checkFinland(EasterCalculator.MAX_YEAR - 30, EasterCalculator.MAX_YEAR);
+    }
+
+    private static void checkFinland(int fromYear, int toYear) {
+        for (int year = fromYear; year <= toYear; year++) {
+            LocalDate easter = EasterOracle.westernEaster(year);
+            Set<LocalDate> movable = new HashSet<LocalDate>();
+            for (int offset : new int[] {-2, 0, 1, 39, 49}) {
+                movable.add(easter.plusDays(offset));
+            }
+            for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+                assertEquals(date.toString(), movable.contains(date) || isFinnishFixedHoliday(date),
+                        HolidayProfile.FINLAND.isHoliday(date));
+            }
+        }
+    }
+
+    private static boolean isFinnishFixedHoliday(LocalDate date) {
+        Month month = date.getMonth();
+        int day = date.getDayOfMonth();
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY
+                && (month == Month.JUNE && day >= 20 && day <= 26
+                || month == Month.OCTOBER && day == 31 || month == Month.NOVEMBER && day <= 6)) {
+            return true;
+        }
+        return month == Month.JANUARY && (day == 1 || day == 6) || month == Month.MAY && day == 1
+                || month == Month.DECEMBER && (day == 6 || day == 25 || day == 26);
+    }
+}
@@ -0,0 +1,81 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Checks {@link HolidayStatistics} against a walk over every day of the
+ * years 1583 to 9999.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class HolidayStatisticsTest {
+
+    private static final int FIRST_YEAR = 1583;
+    private static final int LAST_YEAR = 9999;
+
+    @Test
+    public void rangeSumsMatchWalk() {
+        Random random = new Random(9);
+        for (HolidayProfile profile : new HolidayProfile[] {HolidayProfile.GREECE, HolidayProfile.FINLAND,
+            HolidayProfile.SERBIA}) {
+            // Counts of each year, by month for weekdays and by day of week.
+            int[][] byMonth = new int[LAST_YEAR - FIRST_YEAR + 1][12];
+            int[][] byDay = new int[LAST_YEAR - FIRST_YEAR + 1][7];
+            for (LocalDate date = LocalDate.of(FIRST_YEAR, 1, 1); date.getYear() <= LAST_YEAR;
+                    date = date.plusDays(1)) {
+                if (profile.isHoliday(date)) {
+                    DayOfWeek day = date.getDayOfWeek();
+                    byDay[date.getYear() - FIRST_YEAR][day.getValue() - 1]++;
+                    if (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY) {
+                        byMonth[date.getYear() - FIRST_YEAR][date.getMonthValue() - 1]++;
+                    }
+                }
+            }
+            HolidayStatistics statistics = HolidayStatistics.of(profile);
+            check(statistics, byMonth, byDay, FIRST_YEAR, LAST_YEAR);
+            for (int t = 0; t < 2000; t++) {
+                int from = FIRST_YEAR + random.nextInt(LAST_YEAR - FIRST_YEAR + 1);
+                int to = from + random.nextInt(Math.min(LAST_YEAR - from + 1, 300));
+                check(statistics, byMonth, byDay, from, to);
+            }
+        }
+    }
+
+    private static void check(HolidayStatistics statistics, int[][] byMonth, int[][] byDay, int from, int to) {
+        int[] months = new int[12];
+        int[] quarters = new int[4];
+        int[] days = new int[7];
+        int weekdays = 0;
+        for (int year = from; year <= to; year++) {
+            for (int month = 0; month < 12; month++) {
+                months[month] += byMonth[year - FIRST_YEAR][month];
+                quarters[month / 3] += byMonth[year - FIRST_YEAR][month];
+                weekdays += byMonth[year - FIRST_YEAR][month];
+            }
+            for (int day = 0; day < 7; day++) {
+                days[day] += byDay[year - FIRST_YEAR][day];
+            }
+        }
+        String range = from + "-" + to;
+        assertArrayEquals(range, months, statistics.weekdayHolidaysByMonth(from, to));
+        assertArrayEquals(range, quarters, statistics.weekdayHolidaysByQuarter(from, to));
+        assertArrayEquals(range, days, statistics.holidaysByDayOfWeek(from, to));
+        assertEquals(range, weekdays, statistics.weekdayHolidays(from, to));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsYearsAfter9999() {
+        HolidayStatistics.of(HolidayProfile.GREECE).holidaysByDayOfWeek(2000, 10000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsReversedRanges() {
+        HolidayStatistics.of(HolidayProfile.GREECE).holidaysByDayOfWeek(2001, 2000);
+    }
+}
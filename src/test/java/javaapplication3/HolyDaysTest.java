@@ -0,0 +1,90 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Checks {@link HolyDays} against the {@link MovableFeast} dates of every year
+ * whose feasts can fall in the years looked up.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class HolyDaysTest {
+
+    /**
+     * Collects the feasts falling on each day, from the feasts of the years
+     * {@code fromYear} to {@code toYear}.
+     */
+    static Map<Integer, Long> feastsByDay(int fromYear, int toYear) {
+        Map<Integer, Long> feasts = new HashMap<Integer, Long>();
+        for (int year = Math.max(fromYear, 1583); year <= toYear; year++) {
+            for (MovableFeast feast : MovableFeast.values()) {
+                int day = OrthodoxComputus.epochDayOf(feast, year);
+                Long mask = feasts.get(day);
+                feasts.put(day, (mask == null ? 0 : mask) | feast.mask());
+            }
+        }
+        return feasts;
+    }
+
+    @Test
+    public void isHolyDayMatchesFeastDates() {
+        checkYears(1583, 2200);
+        checkYears(26200, 26220);
+        checkYears(EasterCalculator.MAX_YEAR - 30, EasterCalculator.MAX_YEAR);
+    }
+
+    private static void checkYears(int fromYear, int toYear) {
+        // By MAX_YEAR the feasts fall about twenty years late.
+        Map<Integer, Long> feasts = feastsByDay(fromYear - 25, toYear);
+        for (LocalDate date = LocalDate.of(fromYear, 1, 1); date.getYear() <= toYear; date = date.plusDays(1)) {
+            int day = (int) date.toEpochDay();
+            boolean expected = feasts.containsKey(day);
+            assertEquals(date.toString(), expected, HolyDays.isHolyDay(day));
+            assertEquals(date.toString(), expected, HolyDays.isHolyDay(date));
+            assertEquals(date.toString(), expected, HolyDays.forYear(date.getYear()).contains(date.getDayOfYear()));
+        }
+    }
+
+    @Test
+    public void feastsOnMatchesFeastDates() {
+        checkFeasts(1583, 2200);
+        checkFeasts(26200, 26220);
+        checkFeasts(EasterCalculator.MAX_YEAR - 30, EasterCalculator.MAX_YEAR);
+    }
+
+    private static void checkFeasts(int fromYear, int toYear) {
+        Map<Integer, Long> feasts = feastsByDay(fromYear - 25, toYear);
+        for (LocalDate date = LocalDate.of(fromYear, 1, 1); date.getYear() <= toYear; date = date.plusDays(1)) {
+            Long mask = feasts.get((int) date.toEpochDay());
+            long expected = mask == null ? 0 : mask;
+            assertEquals(date.toString(), expected, HolyDays.feastsOn((int) date.toEpochDay()));
+            assertEquals(date.toString(), expected, HolyDays.feastsOn(date));
+        }
+    }
+
+    @Test
+    public void feastsCalculatedForEarlierYears() {
+        // From 26208 on, All Saints falls in the next year.
+        LocalDate allSaints = LocalDate.ofEpochDay(OrthodoxComputus.epochDayOf(MovableFeast.ALL_SAINTS, 26208));
+        assertEquals(LocalDate.of(26209, 1, 1), allSaints);
+        assertTrue(HolyDays.isHolyDay(allSaints));
+        assertTrue(HolyDays.isHolyDay((int) allSaints.toEpochDay()));
+        assertTrue(MovableFeast.setOf(HolyDays.feastsOn(allSaints)).contains(MovableFeast.ALL_SAINTS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDatesBefore1583() {
+        HolyDays.isHolyDay(LocalDate.of(1582, 12, 31));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void feastsOnRejectsDatesBefore1583() {
+        HolyDays.feastsOn(LocalDate.of(1582, 12, 31));
+    }
+}
@@ -0,0 +1,118 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Checks {@link OrthodoxAdjusters} against {@link OrthodoxFeasts},
+ * {@link HolyDays} and a walk over the days.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class OrthodoxAdjustersTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(1583, 1, 1);
+    private static final LocalDate LAST_DATE = LocalDate.of(EasterCalculator.MAX_YEAR, 12, 31);
+
+    private static LocalDate randomDate(Random random) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return LocalDate.of(1583 + random.nextInt(8417), 1, 1).plusDays(random.nextInt(366));
+            case 1:
+                return LocalDate.of(26190 + random.nextInt(40), 1, 1).plusDays(random.nextInt(366));
+            default:
+                return LocalDate.of(10000 + random.nextInt(EasterCalculator.MAX_YEAR - 10001), 1, 1)
+                        .plusDays(random.nextInt(366));
+        }
+    }
+
+    @Test
+    public void nextAndPreviousFeastAgreeWithHolyDays() {
+        Random random = new Random(5);
+        for (int t = 0; t < 20000; t++) {
+            LocalDate date = randomDate(random);
+            MovableFeast feast = MovableFeast.values()[random.nextInt(OrthodoxComputus.FEAST_COUNT)];
+            LocalDate next = date.with(OrthodoxAdjusters.nextFeast(feast));
+            assertEquals(feast + " " + date, OrthodoxFeasts.nextOccurrences(feast, date, 1)[0], next);
+            assertTrue(feast + " " + next, (HolyDays.feastsOn(next) & feast.mask()) != 0);
+            assertTrue(next.toString(), next.query(OrthodoxAdjusters.isOrthodoxHoliday()));
+
+            LocalDate previous = date.with(OrthodoxAdjusters.previousFeast(feast));
+            assertEquals(feast + " " + date, OrthodoxFeasts.previousOccurrence(feast, date), previous);
+            assertTrue(feast + " " + previous, (HolyDays.feastsOn(previous) & feast.mask()) != 0);
+            // No occurrence between the two but the date itself.
+            boolean on = (HolyDays.feastsOn(date) & feast.mask()) != 0;
+            assertEquals(on ? date : next, previous.with(OrthodoxAdjusters.nextFeast(feast)));
+        }
+    }
+
+    @Test
+    public void feastsDriftingIntoTheNextYear() {
+        LocalDate newYear = LocalDate.of(26209, 1, 1);
+        assertEquals(newYear, LocalDate.of(26208, 12, 31).with(OrthodoxAdjusters.nextFeast(MovableFeast.ALL_SAINTS)));
+        assertTrue(newYear.query(OrthodoxAdjusters.isOrthodoxHoliday()));
+        assertEquals(newYear, LocalDate.of(26209, 1, 2).with(OrthodoxAdjusters.previousFeast(MovableFeast.ALL_SAINTS)));
+    }
+
+    @Test
+    public void isOrthodoxHolidayMatchesHolyDays() {
+        Random random = new Random(6);
+        for (int t = 0; t < 100000; t++) {
+            LocalDate date = randomDate(random);
+            assertEquals(date.toString(), HolyDays.isHolyDay(date), date.query(OrthodoxAdjusters.isOrthodoxHoliday()));
+        }
+        assertFalse(FIRST_DATE.minusDays(1).query(OrthodoxAdjusters.isOrthodoxHoliday()));
+        assertFalse(LAST_DATE.plusDays(1).query(OrthodoxAdjusters.isOrthodoxHoliday()));
+        assertFalse(LocalDate.MAX.query(OrthodoxAdjusters.isOrthodoxHoliday()));
+    }
+
+    @Test
+    public void isHolidayMatchesProfile() {
+        Random random = new Random(7);
+        for (HolidayProfile profile : new HolidayProfile[] {HolidayProfile.GREECE, HolidayProfile.FINLAND}) {
+            for (int t = 0; t < 50000; t++) {
+                LocalDate date = randomDate(random);
+                assertEquals(profile + " " + date, profile.isHoliday(date),
+                        date.query(OrthodoxAdjusters.isHoliday(profile)));
+            }
+            assertFalse(LocalDate.of(1582, 12, 25).query(OrthodoxAdjusters.isHoliday(profile)));
+            assertFalse(LAST_DATE.plusDays(1).query(OrthodoxAdjusters.isHoliday(profile)));
+        }
+    }
+
+    @Test
+    public void nextHolyDayMatchesWalk() {
+        Random random = new Random(8);
+        HolidayProfile profile = HolidayProfile.GREECE;
+        for (int t = 0; t < 20000; t++) {
+            LocalDate date = randomDate(random);
+            LocalDate expected = date.plusDays(1);
+            while (!profile.isHoliday(expected)) {
+                expected = expected.plusDays(1);
+            }
+            assertEquals(date.toString(), expected, date.with(OrthodoxAdjusters.nextHolyDay(profile)));
+        }
+        assertEquals(FIRST_DATE, LocalDate.of(1000, 6, 1).with(OrthodoxAdjusters.nextHolyDay(profile)));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void nextHolyDayThrowsAfterMaxYear() {
+        LAST_DATE.with(OrthodoxAdjusters.nextHolyDay(HolidayProfile.GREECE));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void nextFeastThrowsAfterMaxYear() {
+        LAST_DATE.with(OrthodoxAdjusters.nextFeast(MovableFeast.EASTER));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void previousFeastThrowsBefore1583() {
+        FIRST_DATE.with(OrthodoxAdjusters.previousFeast(MovableFeast.EASTER));
+    }
+}
@@ -0,0 +1,145 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Checks the occurrence searches of {@link OrthodoxFeasts} against the days
+ * of every year, sorted.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class OrthodoxFeastsTest {
+
+    private static final MovableFeast[] FEASTS = {
+        MovableFeast.EASTER, MovableFeast.ALL_SAINTS, MovableFeast.SAINT_GEORGE,
+        MovableFeast.SUNDAY_OF_THE_FOREFATHERS
+    };
+    private static final LocalDate LAST_DATE = LocalDate.of(EasterCalculator.MAX_YEAR, 12, 31);
+
+    /**
+     * Returns the days of a feast of every year, up to the end of MAX_YEAR.
+     */
+    private static int[] days(MovableFeast feast) {
+        int[] days = new int[EasterCalculator.MAX_YEAR - 1583 + 1];
+        int n = 0;
+        for (int year = 1583; year <= EasterCalculator.MAX_YEAR; year++) {
+            int day = OrthodoxComputus.epochDayOf(feast, year);
+            if (day <= LAST_DATE.toEpochDay()) {
+                days[n++] = day;
+            }
+        }
+        return Arrays.copyOf(days, n);
+    }
+
+    private static LocalDate[] expectedNext(int[] days, LocalDate from, int n) {
+        int i = Arrays.binarySearch(days, (int) from.toEpochDay());
+        i = i < 0 ? -i - 1 : i + 1;
+        LocalDate[] dates = new LocalDate[Math.max(Math.min(n, days.length - i), 0)];
+        for (int j = 0; j < dates.length; j++) {
+            dates[j] = LocalDate.ofEpochDay(days[i + j]);
+        }
+        return dates;
+    }
+
+    private static LocalDate expectedPrevious(int[] days, LocalDate from) {
+        int i = Arrays.binarySearch(days, (int) from.toEpochDay());
+        i = i < 0 ? -i - 2 : i - 1;
+        return i < 0 ? null : LocalDate.ofEpochDay(days[i]);
+    }
+
+    private static LocalDate[] probes(Random random) {
+        LocalDate[] probes = new LocalDate[2000];
+        for (int i = 0; i < probes.length; i++) {
+            switch (i % 4) {
+                case 0:
+                    // Across the end of the precomputed table.
+                    probes[i] = LocalDate.of(9996, 1, 1).plusDays(random.nextInt(8 * 366));
+                    break;
+                case 1:
+                    probes[i] = LocalDate.of(1580, 1, 1).plusDays(random.nextInt(8 * 366));
+                    break;
+                case 2:
+                    probes[i] = LAST_DATE.minusDays(random.nextInt(30 * 366)).plusDays(random.nextInt(2 * 366));
+                    break;
+                default:
+                    probes[i] = LocalDate.ofEpochDay(random.nextInt((int) LAST_DATE.toEpochDay()));
+                    break;
+            }
+        }
+        return probes;
+    }
+
+    @Test
+    public void nextOccurrencesMatchSortedDays() {
+        Random random = new Random(3);
+        for (MovableFeast feast : FEASTS) {
+            int[] days = days(feast);
+            for (LocalDate from : probes(random)) {
+                int n = random.nextInt(12);
+                assertArrayEquals(feast + " " + from + " " + n, expectedNext(days, from, n),
+                        OrthodoxFeasts.nextOccurrences(feast, from, n));
+            }
+        }
+    }
+
+    @Test
+    public void nextOccurrencesAcrossTheTableEnd() {
+        LocalDate[] dates = OrthodoxFeasts.nextOccurrences(MovableFeast.EASTER, LocalDate.of(9997, 1, 1), 5);
+        assertEquals(5, dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(EasterCalculator.easterEpochDay(9997 + i), dates[i].toEpochDay());
+        }
+    }
+
+    @Test
+    public void nextOccurrencesStopAtTheEndOfMaxYear() {
+        for (MovableFeast feast : FEASTS) {
+            int[] days = days(feast);
+            LocalDate from = LAST_DATE.minusYears(40);
+            LocalDate[] dates = OrthodoxFeasts.nextOccurrences(feast, from, 100);
+            assertArrayEquals(feast.toString(), expectedNext(days, from, 100), dates);
+            assertEquals(LocalDate.ofEpochDay(days[days.length - 1]), dates[dates.length - 1]);
+            assertEquals(0, OrthodoxFeasts.nextOccurrences(feast, LAST_DATE, 3).length);
+        }
+    }
+
+    @Test
+    public void previousOccurrenceMatchesSortedDays() {
+        Random random = new Random(4);
+        for (MovableFeast feast : FEASTS) {
+            int[] days = days(feast);
+            for (LocalDate from : probes(random)) {
+                assertEquals(feast + " " + from, expectedPrevious(days, from),
+                        OrthodoxFeasts.previousOccurrence(feast, from));
+            }
+            assertEquals(LocalDate.ofEpochDay(days[days.length - 1]),
+                    OrthodoxFeasts.previousOccurrence(feast, LAST_DATE.plusYears(100)));
+        }
+    }
+
+    @Test
+    public void previousOccurrenceAcrossTheTableEnd() {
+        assertEquals(LocalDate.ofEpochDay(EasterCalculator.easterEpochDay(9999)),
+                OrthodoxFeasts.previousOccurrence(MovableFeast.EASTER, LocalDate.of(10000, 1, 1)));
+        assertEquals(LocalDate.ofEpochDay(EasterCalculator.easterEpochDay(10000)),
+                OrthodoxFeasts.previousOccurrence(MovableFeast.EASTER, LocalDate.of(10001, 1, 1)));
+        assertNull(OrthodoxFeasts.previousOccurrence(MovableFeast.EASTER, LocalDate.of(1583, 4, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeCounts() {
+        OrthodoxFeasts.nextOccurrences(MovableFeast.EASTER, LocalDate.of(2026, 1, 1), -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDatesBeyondIntDays() {
+        OrthodoxFeasts.previousOccurrence(MovableFeast.EASTER, LocalDate.MAX);
+    }
+}
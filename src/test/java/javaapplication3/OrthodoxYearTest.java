@@ -0,0 +1,50 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Checks that {@link OrthodoxYear} shares its instances and that their dates
+ * are the days of the computus.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class OrthodoxYearTest {
+
+    @Test
+    public void sharesInstances() {
+        assertSame(OrthodoxYear.of(2026), OrthodoxYear.of(2026));
+        assertSame(OrthodoxYear.of(9999), OrthodoxYear.of(9999));
+        assertSame(OrthodoxYear.of(123456), OrthodoxYear.of(123456));
+    }
+
+    @Test
+    public void datesMatchComputus() {
+        Random random = new Random(10);
+        for (int t = 0; t < 5000; t++) {
+            int year = t % 2 == 0 ? 1583 + random.nextInt(8417) : 1583 + random.nextInt(EasterCalculator.MAX_YEAR - 1582);
+            OrthodoxYear holyDays = OrthodoxYear.of(year);
+            assertEquals(year, holyDays.getYear());
+            for (MovableFeast feast : MovableFeast.values()) {
+                assertEquals(year + " " + feast, LocalDate.ofEpochDay(OrthodoxComputus.epochDayOf(feast, year)),
+                        holyDays.get(feast));
+            }
+            assertEquals(LocalDate.ofEpochDay(EasterCalculator.easterEpochDay(year)), holyDays.getEaster());
+        }
+        assertEquals(LocalDate.of(2026, 4, 12), OrthodoxYear.of(2026).getEaster());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsYearsBefore1583() {
+        OrthodoxYear.of(1582);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsYearsAfterMaxYear() {
+        OrthodoxYear.of(EasterCalculator.MAX_YEAR + 1);
+    }
+}
@@ -0,0 +1,44 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Checks {@link PaschalCursor} against {@link EasterOracle} and
+ * {@link OrthodoxComputus#allFeasts(int, int[])}.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class PaschalCursorTest {
+
+    private static final int FIRST_YEAR = 1583;
+    private static final int LAST_YEAR = EasterCalculator.MAX_YEAR;
+
+    @Test
+    public void easterMatchesJulianAlgorithm() {
+        PaschalCursor cursor = new PaschalCursor(FIRST_YEAR);
+        for (int year = FIRST_YEAR; ; year++) {
+            assertEquals(year, cursor.getYear());
+            assertEquals("Easter " + year, EasterOracle.easterEpochDay(year), cursor.getEasterEpochDay());
+            if (year == LAST_YEAR) {
+                break;
+            }
+            cursor.advance();
+        }
+    }
+
+    @Test
+    public void feastsMatchAllFeasts() {
+        int[] feasts = new int[OrthodoxComputus.FEAST_COUNT];
+        for (int start : new int[] {FIRST_YEAR, 1600, 1999, 26200}) {
+            PaschalCursor cursor = new PaschalCursor(start);
+            for (int year = start; year <= start + 20000; year++, cursor.advance()) {
+                OrthodoxComputus.allFeasts(year, feasts);
+                for (MovableFeast feast : MovableFeast.values()) {
+                    assertEquals(feast + " " + year, feasts[feast.ordinal()], cursor.getEpochDay(feast));
+                }
+            }
+        }
+    }
+}
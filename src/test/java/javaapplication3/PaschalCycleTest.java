@@ -0,0 +1,37 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Checks {@link PaschalCycle} against the Julian algorithm of
+ * {@link EasterOracle}, up to its own {@link PaschalCycle#MAX_YEAR}.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class PaschalCycleTest {
+
+    @Test
+    public void matchesJulianAlgorithmUpToMaxYear() {
+        for (int year = 1583; year <= EasterCalculator.MAX_YEAR; year++) {
+            assertEquals("Easter " + year, EasterOracle.easterEpochDay(year), PaschalCycle.easterEpochDay(year));
+        }
+    }
+
+    @Test
+    public void matchesJulianAlgorithmForHugeYears() {
+        for (long year = EasterCalculator.MAX_YEAR; year > 0 && year <= PaschalCycle.MAX_YEAR; year = year * 3 + 7) {
+            for (long y = year; y < year + PaschalCycle.LENGTH; y++) {
+                assertEquals("Easter " + y, EasterOracle.easterEpochDay(y), PaschalCycle.easterEpochDay(y));
+            }
+        }
+        long last = PaschalCycle.MAX_YEAR;
+        assertEquals(EasterOracle.easterEpochDay(last), PaschalCycle.easterEpochDay(last));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsYearsAfterMaxYear() {
+        PaschalCycle.easterEpochDay(PaschalCycle.MAX_YEAR + 1);
+    }
+}
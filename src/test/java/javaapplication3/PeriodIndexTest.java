@@ -0,0 +1,100 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Checks {@link PeriodIndex} against a scan of every period of its range.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class PeriodIndexTest {
+
+    /**
+     * Returns every period of a range, ordered by first day, then by year and
+     * period.
+     */
+    private static List<PeriodOccurrence> periods(int fromYear, int toYear) {
+        List<PeriodOccurrence> periods = new ArrayList<PeriodOccurrence>();
+        for (int year = fromYear; year <= toYear; year++) {
+            for (LiturgicalPeriod period : LiturgicalPeriod.values()) {
+                PeriodOccurrence occurrence = period.forYear(year);
+                if (occurrence != null) {
+                    periods.add(occurrence);
+                }
+            }
+        }
+        Collections.sort(periods, new Comparator<PeriodOccurrence>() {
+            @Override
+            public int compare(PeriodOccurrence a, PeriodOccurrence b) {
+                return Integer.compare(a.getStartEpochDay(), b.getStartEpochDay());
+            }
+        });
+        return periods;
+    }
+
+    @Test
+    public void containingMatchesScan() {
+        check(1583, 2600);
+        check(26200, 26300);
+        check(EasterCalculator.MAX_YEAR - 100, EasterCalculator.MAX_YEAR);
+    }
+
+    private static void check(int fromYear, int toYear) {
+        PeriodIndex index = PeriodIndex.build(fromYear, toYear);
+        List<PeriodOccurrence> periods = periods(fromYear, toYear);
+        Random random = new Random(fromYear);
+        int first = periods.get(0).getStartEpochDay() - 30;
+        int last = periods.get(periods.size() - 1).getEndEpochDay() + 30;
+        for (int t = 0; t < 5000; t++) {
+            LocalDate date = LocalDate.ofEpochDay(first + random.nextInt(last - first + 1));
+            List<PeriodOccurrence> expected = new ArrayList<PeriodOccurrence>();
+            for (PeriodOccurrence period : periods) {
+                if (period.contains(date)) {
+                    expected.add(period);
+                }
+            }
+            assertEquals(date.toString(), expected, index.containing(date));
+
+            LocalDate to = date.plusDays(random.nextInt(120));
+            expected = new ArrayList<PeriodOccurrence>();
+            for (PeriodOccurrence period : periods) {
+                if (!period.getStart().isBefore(date) && !period.getStart().isAfter(to)
+                        || !period.getEnd().isBefore(date) && !period.getEnd().isAfter(to)) {
+                    expected.add(period);
+                }
+            }
+            assertEquals(date + "/" + to, expected, index.startingOrEndingBetween(date, to));
+        }
+    }
+
+    @Test
+    public void apostlesFastEndsOnJune28() {
+        PeriodOccurrence fast = LiturgicalPeriod.APOSTLES_FAST.forYear(2026);
+        assertEquals(LocalDate.of(2026, 6, 8), fast.getStart());
+        assertEquals(LocalDate.of(2026, 6, 28), fast.getEnd());
+        for (int year = 1583; year <= 9999; year++) {
+            LocalDate start = LocalDate.ofEpochDay(EasterCalculator.easterEpochDay(year) + 57);
+            fast = LiturgicalPeriod.APOSTLES_FAST.forYear(year);
+            if (start.isAfter(LocalDate.of(year, 6, 28))) {
+                assertNull(Integer.toString(year), fast);
+            } else {
+                assertEquals(start, fast.getStart());
+                assertEquals(LocalDate.of(year, 6, 28), fast.getEnd());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsReversedRanges() {
+        PeriodIndex.build(2001, 2000);
+    }
+}
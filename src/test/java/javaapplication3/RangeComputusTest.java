@@ -0,0 +1,61 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Checks the bulk year-range methods of {@link OrthodoxComputus} against
+ * {@link EasterOracle} and the per-year methods.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class RangeComputusTest {
+
+    private static final int FIRST_YEAR = 1583;
+    private static final int LAST_YEAR = EasterCalculator.MAX_YEAR;
+
+    @Test
+    public void easterRangeMatchesJulianAlgorithm() {
+        int[] out = OrthodoxComputus.computeEasterRange(FIRST_YEAR, LAST_YEAR, new int[LAST_YEAR - FIRST_YEAR + 1]);
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            assertEquals("Easter " + year, EasterOracle.easterEpochDay(year), out[year - FIRST_YEAR]);
+        }
+    }
+
+    @Test
+    public void easterSubrangesMatchJulianAlgorithm() {
+        for (int from = FIRST_YEAR; from < FIRST_YEAR + 40; from++) {
+            int to = from + 1000 + from % 17;
+            int[] out = OrthodoxComputus.computeEasterRange(from, to, new int[to - from + 1]);
+            for (int year = from; year <= to; year++) {
+                assertEquals("Easter " + year, EasterOracle.easterEpochDay(year), out[year - from]);
+            }
+        }
+    }
+
+    @Test
+    public void feastRangeMatchesAllFeasts() {
+        int from = 1583;
+        int to = 30000;
+        int[] out = OrthodoxComputus.computeFeastRange(from, to, new int[(to - from + 1) * OrthodoxComputus.FEAST_COUNT]);
+        int[] feasts = new int[OrthodoxComputus.FEAST_COUNT];
+        for (int year = from; year <= to; year++) {
+            OrthodoxComputus.allFeasts(year, feasts);
+            for (MovableFeast feast : MovableFeast.values()) {
+                assertEquals(feast + " " + year, feasts[feast.ordinal()],
+                        out[(year - from) * OrthodoxComputus.FEAST_COUNT + feast.ordinal()]);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsShortArrays() {
+        OrthodoxComputus.computeEasterRange(2000, 2009, new int[9]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsReversedRanges() {
+        OrthodoxComputus.computeEasterRange(2009, 2000, new int[10]);
+    }
+}
@@ -0,0 +1,117 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+/**
+ * Checks that {@link TodayService} rolls over at midnight of its clock and
+ * keeps its snapshot when the next one fails.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class TodayServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Athens");
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    /**
+     * A clock whose time the test sets, counting how often it is read.
+     */
+    private static final class TestClock extends Clock {
+
+        final AtomicReference<Instant> instant;
+        final AtomicInteger reads = new AtomicInteger();
+
+        TestClock(Instant instant) {
+            this.instant = new AtomicReference<Instant>(instant);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            reads.incrementAndGet();
+            return instant.get();
+        }
+    }
+
+    private static Instant beforeMidnight(LocalDate date, long millis) {
+        return date.plusDays(1).atStartOfDay(ZONE).toInstant().minusMillis(millis);
+    }
+
+    private static void awaitDate(TodayService service, LocalDate date) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!service.getDate().equals(date) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(date, service.getDate());
+    }
+
+    @Test
+    public void rollsOverAtMidnight() throws InterruptedException {
+        LocalDate holySaturday = LocalDate.of(2026, 4, 11);
+        TestClock clock = new TestClock(beforeMidnight(holySaturday, 200));
+        try (TodayService service = new TodayService(clock)) {
+            assertEquals(holySaturday, service.getDate());
+            assertEquals(MovableFeast.HOLY_SATURDAY.mask(), service.getFeasts() & MovableFeast.HOLY_SATURDAY.mask());
+            assertEquals(1, service.getDaysToEaster());
+            // The wake-up is due at midnight; the clock reaches it by then.
+            clock.instant.set(beforeMidnight(holySaturday, -100));
+            awaitDate(service, holySaturday.plusDays(1));
+            TodayService.Snapshot today = service.today();
+            assertTrue(today.isHolyDay());
+            assertEquals(MovableFeast.EASTER.mask(), today.getFeasts() & MovableFeast.EASTER.mask());
+            assertEquals(0, today.getDaysToEaster());
+        }
+    }
+
+    @Test
+    public void keepsTheSnapshotWhenTheNextOneFails() throws InterruptedException {
+        LocalDate date = LocalDate.of(2026, 4, 11);
+        TestClock clock = new TestClock(beforeMidnight(date, 200));
+        try (TodayService service = new TodayService(clock, TimeUnit.MILLISECONDS.toNanos(10))) {
+            TodayService.Snapshot snapshot = service.today();
+            clock.instant.set(LocalDate.of(EasterCalculator.MAX_YEAR + 1, 1, 1).atStartOfDay(ZONE).toInstant());
+            int reads = clock.reads.get();
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (clock.reads.get() < reads + 5 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            // Every try failed and was followed by another.
+            assertTrue(clock.reads.get() >= reads + 5);
+            assertTrue(snapshot == service.today());
+
+            clock.instant.set(beforeMidnight(date, -100));
+            awaitDate(service, date.plusDays(1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDaysWithoutANextEaster() {
+        new TodayService.Snapshot(LocalDate.of(EasterCalculator.MAX_YEAR, 12, 31));
+    }
+
+    @Test
+    public void snapshotsTheLastEaster() {
+        int easter = OrthodoxFeasts.previousEpochDay(MovableFeast.EASTER, Integer.MAX_VALUE);
+        TodayService.Snapshot snapshot = new TodayService.Snapshot(LocalDate.ofEpochDay(easter - 3));
+        assertEquals(3, snapshot.getDaysToEaster());
+    }
+}
@@ -0,0 +1,83 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeNotNull;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import org.junit.Test;
+
+/**
+ * Checks the Vector API kernel against {@link EasterOracle}. The kernel is
+ * only compiled on Java 17 and later, into the multi-release directory, which
+ * a plain class path does not read; it is defined here from its class file
+ * when present.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class VectorEasterKernelTest {
+
+    private static final int FIRST_YEAR = 1583;
+    private static final int LAST_YEAR = EasterCalculator.MAX_YEAR;
+
+    @Test
+    public void matchesJulianAlgorithm() throws Exception {
+        EasterKernel kernel = loadVectorKernel();
+        assumeNotNull(kernel);
+        int[] out = new int[LAST_YEAR - FIRST_YEAR + 1];
+        kernel.computeEasterRange(FIRST_YEAR, LAST_YEAR, out);
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            assertEquals("Easter " + year, EasterOracle.easterEpochDay(year), out[year - FIRST_YEAR]);
+        }
+        // Ranges that start and end off the batch boundaries.
+        for (int from = FIRST_YEAR; from < FIRST_YEAR + 40; from++) {
+            int to = from + 1000 + from % 17;
+            int[] part = new int[to - from + 1];
+            kernel.computeEasterRange(from, to, part);
+            for (int year = from; year <= to; year++) {
+                assertEquals("Easter " + year, EasterOracle.easterEpochDay(year), part[year - from]);
+            }
+        }
+    }
+
+    @Test
+    public void offWithoutTheProperty() {
+        assumeTrue(System.getProperty("javaapplication3.vector") == null);
+        assertFalse(OrthodoxComputus.isVectorKernelEnabled());
+    }
+
+    private static EasterKernel loadVectorKernel() throws Exception {
+        try {
+            Class.forName("jdk.incubator.vector.IntVector");
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        InputStream in = VectorEasterKernelTest.class.getClassLoader()
+                .getResourceAsStream("META-INF/versions/17/javaapplication3/VectorEasterKernel.class");
+        assumeTrue(in != null);
+        Method define = MethodHandles.Lookup.class.getMethod("defineClass", byte[].class);
+        Class<?> type = (Class<?>) define.invoke(MethodHandles.lookup(), readAll(in));
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return (EasterKernel) constructor.newInstance();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                bytes.write(buffer, 0, n);
+            }
+            return bytes.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package javaapplication3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import org.junit.Test;
+
+/**
+ * Checks the lookups and evictions of {@link YearCache}, and the calculators
+ * {@link EasterCalculator#of(int)} shares.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+public class YearCacheTest {
+
+    private static final IntFunction<String> LOADER = new IntFunction<String>() {
+        @Override
+        public String apply(int year) {
+            return Integer.toString(year);
+        }
+    };
+
+    @Test
+    public void evictsYearsNotLookedUpSinceTheHandPassed() {
+        YearCache<String> cache = new YearCache<String>(4, LOADER);
+        for (int year = 1; year <= 4; year++) {
+            cache.get(year);
+        }
+        assertEquals("1", cache.get(1));
+        assertEquals(1, cache.hitCount());
+        // The hand spares 1, which was looked up, and evicts 2.
+        cache.get(5);
+        cache.get(1);
+        cache.get(3);
+        cache.get(4);
+        cache.get(5);
+        assertEquals(5, cache.hitCount());
+        assertEquals(5, cache.missCount());
+        cache.get(2);
+        assertEquals(6, cache.missCount());
+    }
+
+    @Test
+    public void matchesLoaderUnderChurn() {
+        Random random = new Random(11);
+        YearCache<String> cache = new YearCache<String>(64, LOADER);
+        for (int t = 0; t < 200000; t++) {
+            // Years sharing low bits, so that runs of slots form and break up.
+            int year = t % 2 == 0 ? 1583 + random.nextInt(200) : random.nextInt(100) << 16;
+            assertEquals(Integer.toString(year), cache.get(year));
+        }
+        YearCache<String> small = new YearCache<String>(3, LOADER);
+        for (int t = 0; t < 10000; t++) {
+            int year = random.nextInt(5) * 1024;
+            assertEquals(Integer.toString(year), small.get(year));
+            long hits = small.hitCount();
+            small.get(year);
+            assertEquals(hits + 1, small.hitCount());
+        }
+    }
+
+    @Test
+    public void matchesLoaderAcrossThreads() throws InterruptedException {
+        final YearCache<String> cache = new YearCache<String>(16, LOADER);
+        final AtomicReference<String> failure = new AtomicReference<String>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int n = 0; n < 4; n++) {
+            final Random random = new Random(n);
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (int t = 0; t < 200000; t++) {
+                        int year = random.nextInt(40) * 64;
+                        String value = cache.get(year);
+                        if (!value.equals(Integer.toString(year))) {
+                            failure.compareAndSet(null, year + " got " + value);
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(null, failure.get());
+        assertEquals(800000, cache.hitCount() + cache.missCount());
+    }
+
+    @Test
+    public void easterCalculatorsAreShared() {
+        assertSame(EasterCalculator.of(2026), EasterCalculator.of(2026));
+        assertSame(EasterCalculator.of(9999), EasterCalculator.of(9999));
+        long misses = EasterCalculator.cacheMissCount();
+        EasterCalculator far = EasterCalculator.of(654321);
+        assertSame(far, EasterCalculator.of(654321));
+        assertEquals(misses + 1, EasterCalculator.cacheMissCount());
+        assertEquals(new EasterCalculator(654321).getEaster().getTimeInMillis(), far.getEaster().getTimeInMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofRejectsYearsAfterMaxYear() {
+        EasterCalculator.of(EasterCalculator.MAX_YEAR + 1);
+    }
+}
@@ -0,0 +1,89 @@
+package javaapplication3;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Calculates Easter for a batch of consecutive years per instruction with the
+ * incubating Vector API, one year per lane. Lane division is not a hardware
+ * instruction, so instead of dividing every year the kernel carries the
+ * quotients it needs from batch to batch: the golden number, the year within
+ * its century, the century and the century modulo 7 of the first lane advance
+ * by the batch width, and the other lanes add their index and wrap with a
+ * shift-and-mask. The remaining small remainders are taken with
+ * multiply-and-shift reciprocals that are exact for the operands they see.
+ * Years that do not fill a whole batch are left to the scalar kernel in
+ * {@link OrthodoxComputus}.
+ * <p>
+ * This class is compiled into {@code META-INF/versions/17} of the jar and is
+ * only loaded when {@code -Djavaapplication3.vector=true} is set.
+ *
+ * @author Drakoulelis <drakouleli at ceid.upatras.gr>
+ */
+final class VectorEasterKernel implements EasterKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void computeEasterRange(int fromYear, int toYear, int[] out) {
+        int lanes = SPECIES.length();
+        int bound = SPECIES.loopBound(toYear - fromYear + 1);
+        IntVector lane = IntVector.zero(SPECIES).addIndex(1);
+
+        // The quotients of the first year of the batch. Vectors carried across
+        // iterations would be boxed, so each batch rebuilds its lanes from these.
+        int year = fromYear;
+        int golden = year % 19;
+        int hundreds = year / 100;
+        int yearOfCentury = year % 100;
+        int hundredsMod7 = hundreds % 7;
+
+        for (int i = 0; i < bound; i += lanes) {
+            IntVector G = lane.add(golden);
+            G = G.add(wrap(G, 19).and(-19));
+            IntVector c = lane.add(yearOfCentury);
+            IntVector carry = wrap(c, 100);
+            c = c.add(carry.and(-100));
+            IntVector h = carry.neg().add(hundreds);
+            IntVector hm = carry.neg().add(hundredsMod7);
+            hm = hm.add(wrap(hm, 7).and(-7));
+            IntVector y = lane.add(year);
+
+            // I = (19 G + 15) % 30, where 19 G + 15 <= 357
+            IntVector v = G.mul(19).add(15);
+            IntVector I = v.sub(v.mul(547).lanewise(VectorOperators.ASHR, 14).mul(30));
+            // J = (year + year / 4 + I) % 7, rewritten from year = 100 h + c
+            // as (6 h + c + c / 4 + I) % 7, where the sum is at most 188
+            IntVector w = hm.mul(6).add(c).add(c.lanewise(VectorOperators.ASHR, 2)).add(I);
+            IntVector J = w.sub(w.mul(147).lanewise(VectorOperators.ASHR, 10).mul(7));
+            IntVector centuries = h.sub(16).max(0);
+            IntVector e = centuries.sub(centuries.lanewise(VectorOperators.ASHR, 2)).add(10);
+            IntVector marchTwentySecond = y.mul(365).add(y.lanewise(VectorOperators.ASHR, 2))
+                    .sub(h).add(h.lanewise(VectorOperators.ASHR, 2)).sub(719468 - 21);
+            marchTwentySecond.add(I).sub(J).add(6).add(e).intoArray(out, i);
+
+            year += lanes;
+            golden += lanes % 19;
+            if (golden >= 19) {
+                golden -= 19;
+            }
+            yearOfCentury += lanes;
+            if (yearOfCentury >= 100) {
+                yearOfCentury -= 100;
+                hundreds++;
+                if (++hundredsMod7 == 7) {
+                    hundredsMod7 = 0;
+                }
+            }
+        }
+        OrthodoxComputus.computeEasterRange(fromYear + bound, toYear, out, bound);
+    }
+
+    /**
+     * Returns -1 in the lanes that reached the modulus and 0 elsewhere.
+     */
+    private static IntVector wrap(IntVector v, int modulus) {
+        return v.neg().add(modulus - 1).lanewise(VectorOperators.ASHR, 31);
+    }
+}